@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmark suites.
+ * <p>
+ * Every suite runs against its own embedded, in-memory H2 database so
+ * that the benchmarks can be run offline and do not interfere with one
+ * another.
+ */
+public final class BenchmarkSessionFactory {
+	/**
+	 * The number of {@link Author}s created by {@link #populate}.
+	 */
+	public static final int AUTHORS = 100;
+	/**
+	 * The number of {@link Book}s created per {@link Author} by {@link #populate}.
+	 */
+	public static final int BOOKS_PER_AUTHOR = 10;
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(String databaseName) {
+		return build( databaseName, configuration -> {} );
+	}
+
+	public static SessionFactoryImplementor build(String databaseName, Consumer<Configuration> customizer) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" )
+				.setProperty( AvailableSettings.POOL_SIZE, 5 )
+				.setProperty( AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "drop-and-create" )
+				.setProperty( AvailableSettings.SHOW_SQL, false );
+		customizer.accept( configuration );
+		return configuration.buildSessionFactory().unwrap( SessionFactoryImplementor.class );
+	}
+
+	/**
+	 * Creates {@value #AUTHORS} authors, each with {@value #BOOKS_PER_AUTHOR} books.
+	 */
+	public static void populate(SessionFactory sessionFactory) {
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				final Author author = new Author( "Author " + i, i % 5 );
+				session.persist( author );
+				for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+					session.persist( new Book(
+							"Book " + i + "-" + j,
+							"isbn-" + i + "-" + j,
+							BigDecimal.valueOf( 1000 + j, 2 ),
+							LocalDate.of( 2000 + j, 1 + i % 12, 1 ),
+							author
+					) );
+				}
+			}
+		} );
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of flushing a session holding all books as managed
+ * entities, which is dominated by the dirty checking performed by
+ * {@code DefaultFlushEntityEventListener}.
+ * The session and its transaction live for a whole iteration, and the
+ * transaction is rolled back at the end of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushDirtyCheckingBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "flush_dirty_checking" );
+		BenchmarkSessionFactory.populate( sessionFactory );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Nothing was modified: measures pure dirty checking.
+	 */
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	/**
+	 * A single entity was modified: one update among many clean entities.
+	 */
+	@Benchmark
+	public void flushOneDirty() {
+		final Book book = books.get( ThreadLocalRandom.current().nextInt( books.size() ) );
+		book.setPrice( book.getPrice().add( BigDecimal.ONE ) );
+		session.flush();
+	}
+}
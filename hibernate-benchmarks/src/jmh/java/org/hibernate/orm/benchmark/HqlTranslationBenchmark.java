@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the interpretation of HQL: parsing and semantic analysis
+ * through {@code StandardHqlTranslator}, lookups in
+ * {@code QueryInterpretationCacheStandardImpl}, and the complete
+ * create-and-execute cycle of a query whose plan is cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlTranslationBenchmark {
+	@Param({
+			"from Book b where b.title = :title",
+			"select b.title, a.name from Book b join b.author a where a.rating > :rating order by b.published desc",
+			"select a.name, count(b), avg(b.price) from Book b join b.author a group by a.name having count(b) > 1"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "hql_translation" );
+		queryEngine = sessionFactory.getQueryEngine();
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<Object> translate() {
+		return queryEngine.getHqlTranslator().translate( hql, Object.class );
+	}
+
+	@Benchmark
+	public HqlInterpretation<Object> cachedInterpretation() {
+		return queryEngine.interpretHql( hql, Object.class );
+	}
+
+	@Benchmark
+	public List<?> createAndExecute() {
+		final SelectionQuery<Object> query = session.createSelectionQuery( hql, Object.class );
+		if ( hql.contains( ":title" ) ) {
+			query.setParameter( "title", "Book 1-1" );
+		}
+		if ( hql.contains( ":rating" ) ) {
+			query.setParameter( "rating", 2 );
+		}
+		return query.setMaxResults( 1 ).getResultList();
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the sorting of the insert actions of a unit of work by
+ * {@link ActionQueue#sortActions()} when ordering of inserts is enabled.
+ * Every invocation sorts {@link #actions} queued inserts, persisted as
+ * an author followed by {@value #BOOKS_PER_AUTHOR} of its books, so that
+ * inserts of the two entities are interleaved in the original order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertOrderingBenchmark {
+	private static final int BOOKS_PER_AUTHOR = 9;
+
+	@Param({ "10000", "100000", "1000000" })
+	public int actions;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"insert_ordering",
+				configuration -> configuration
+						.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+						.setProperty( AvailableSettings.ORDER_INSERTS, true )
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void persist() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		Author author = null;
+		for ( int i = 0; i < actions; i++ ) {
+			if ( i % ( BOOKS_PER_AUTHOR + 1 ) == 0 ) {
+				author = new Author( "Author " + i, i );
+				session.persist( author );
+			}
+			else {
+				session.persist( new Book( "Book " + i, "isbn-" + i, BigDecimal.TEN, LocalDate.now(), author ) );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		try {
+			session.getTransaction().rollback();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void sortInserts() {
+		( (SessionImplementor) session ).getActionQueue().sortActions();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures flushing a unit of work made of inserts, which goes through
+ * {@code BatchImpl} when JDBC batching is enabled.
+ * Every invocation persists {@value #AUTHORS} authors with
+ * {@value #BOOKS_PER_AUTHOR} books each, flushes, and rolls back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JdbcBatchingBenchmark {
+	private static final int AUTHORS = 20;
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean orderInserts;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"jdbc_batching",
+				configuration -> configuration
+						.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, batchSize )
+						.setProperty( AvailableSettings.ORDER_INSERTS, orderInserts )
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void insert() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < AUTHORS; i++ ) {
+					final Author author = new Author( "Author " + i, i );
+					session.persist( author );
+					for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+						session.persist( new Book( "Book " + j, "isbn-" + j, BigDecimal.TEN, LocalDate.now(), author ) );
+					}
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link PersistenceContext#addEntity(EntityKey, Object)} and
+ * {@link PersistenceContext#getEntity(EntityKey)} for persistence contexts
+ * holding many entities, as in batch jobs.
+ * Run with {@code -prof gc} to compare the memory footprint of the
+ * entity registry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceContextBenchmark {
+	@Param({ "1000", "200000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private EntityPersister persister;
+	private EntityKey[] keys;
+	private Object[] instances;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "persistence_context" );
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[entities];
+		instances = new Object[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			keys[i] = new EntityKey( (long) i, persister );
+			instances[i] = new Book();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public PersistenceContext addEntities() {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( int i = 0; i < entities; i++ ) {
+				persistenceContext.addEntity( keys[i], instances[i] );
+			}
+			return persistenceContext;
+		}
+	}
+
+	@Benchmark
+	public void addAndGetEntities(Blackhole blackhole) {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( int i = 0; i < entities; i++ ) {
+				persistenceContext.addEntity( keys[i], instances[i] );
+			}
+			for ( int i = 0; i < entities; i++ ) {
+				// a key equal to, but not the same as, the one used to register the entity
+				blackhole.consume( persistenceContext.getEntity( new EntityKey( (long) i, persister ) ) );
+			}
+		}
+	}
+}
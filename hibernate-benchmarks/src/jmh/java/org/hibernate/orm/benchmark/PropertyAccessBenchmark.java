@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares reading ("disassemble") and writing ("hydrate") all the attributes
+ * of an entity with private fields through the generated
+ * {@link ReflectionOptimizer.AccessOptimizer} with doing the same through the
+ * reflective {@link Getter}s and {@link Setter}s of its attribute mappings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyAccessBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	private Getter[] getters;
+	private Setter[] setters;
+
+	private Book book;
+	private Object[] optimizerValues;
+	private Object[] reflectionValues;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "property_access" );
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		final ReflectionOptimizer reflectionOptimizer = persister.getRepresentationStrategy().getReflectionOptimizer();
+		if ( reflectionOptimizer == null || reflectionOptimizer.getAccessOptimizer() == null ) {
+			throw new IllegalStateException( "No access optimizer was generated for " + Book.class.getName() );
+		}
+		accessOptimizer = reflectionOptimizer.getAccessOptimizer();
+
+		final int attributeCount = persister.getNumberOfAttributeMappings();
+		getters = new Getter[attributeCount];
+		setters = new Setter[attributeCount];
+		for ( int i = 0; i < attributeCount; i++ ) {
+			getters[i] = persister.getAttributeMapping( i ).getPropertyAccess().getGetter();
+			setters[i] = persister.getAttributeMapping( i ).getPropertyAccess().getSetter();
+		}
+
+		book = new Book(
+				"Hibernate in Action",
+				"isbn-1",
+				BigDecimal.valueOf( 4999, 2 ),
+				LocalDate.of( 2004, 8, 1 ),
+				new Author( "Gavin", 1 )
+		);
+		optimizerValues = accessOptimizer.getPropertyValues( book );
+		reflectionValues = disassembleWithReflection();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object[] disassembleWithAccessOptimizer() {
+		return accessOptimizer.getPropertyValues( book );
+	}
+
+	@Benchmark
+	public Object[] disassembleWithReflection() {
+		final Object[] values = new Object[getters.length];
+		for ( int i = 0; i < getters.length; i++ ) {
+			values[i] = getters[i].get( book );
+		}
+		return values;
+	}
+
+	@Benchmark
+	public Book hydrateWithAccessOptimizer() {
+		final Book instance = new Book();
+		accessOptimizer.setPropertyValues( instance, optimizerValues );
+		return instance;
+	}
+
+	@Benchmark
+	public Book hydrateWithReflection() {
+		final Book instance = new Book();
+		for ( int i = 0; i < setters.length; i++ ) {
+			setters[i].set( instance, reflectionValues[i] );
+		}
+		return instance;
+	}
+}
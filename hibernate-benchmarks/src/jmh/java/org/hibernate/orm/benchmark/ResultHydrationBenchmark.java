@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the hydration of query results through {@code StandardRowReader}
+ * and, for entity results, {@code EntityInitializerImpl}.
+ * Every invocation reads all {@value BenchmarkSessionFactory#AUTHORS}
+ * {@code *} {@value BenchmarkSessionFactory#BOOKS_PER_AUTHOR} books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultHydrationBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "result_hydration" );
+		BenchmarkSessionFactory.populate( sessionFactory );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Object[]> scalarProjection() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "select b.id, b.title, b.price, b.published from Book b", Object[].class )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesJoinFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).setReadOnly( true ).getResultList();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code SessionImpl.find()}, both when the entity has to be
+ * loaded from the database and when it is already managed by the
+ * persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionFindBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private long minId;
+	private long maxId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "session_find" );
+		BenchmarkSessionFactory.populate( sessionFactory );
+		sessionFactory.inSession( session -> {
+			minId = session.createSelectionQuery( "select min(id) from Book", Long.class ).getSingleResult();
+			maxId = session.createSelectionQuery( "select max(id) from Book", Long.class ).getSingleResult();
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private long randomId() {
+		return ThreadLocalRandom.current().nextLong( minId, maxId + 1 );
+	}
+
+	@Benchmark
+	public Book findFromDatabase() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, randomId() );
+		}
+	}
+
+	@Benchmark
+	public void findFromPersistenceContext(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			final long id = randomId();
+			blackhole.consume( session.find( Book.class, id ) );
+			for ( int i = 0; i < 10; i++ ) {
+				blackhole.consume( session.find( Book.class, id ) );
+			}
+		}
+	}
+}
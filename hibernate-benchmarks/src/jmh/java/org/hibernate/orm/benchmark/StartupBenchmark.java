@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures building a {@code SessionFactory} for a generated model of
+ * {@link #entities} dynamic-map entities, each associated with the previous
+ * one and declaring {@value #QUERIES_PER_ENTITY} named HQL queries, which
+ * are checked at startup by {@link #parallelism} threads.
+ * <p>
+ * The schema is not exported, so that the measurement is dominated by the
+ * construction of the boot model, the persisters and the named queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+	private static final int QUERIES_PER_ENTITY = 3;
+
+	@Param({ "200", "1000" })
+	public int entities;
+
+	@Param({ "1", "4" })
+	public int parallelism;
+
+	private byte[] mapping;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void generateModel() {
+		final StringBuilder xml = new StringBuilder()
+				.append( "<?xml version=\"1.0\"?>\n" )
+				.append( "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\"" )
+				.append( " \"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">\n" )
+				.append( "<hibernate-mapping>\n" );
+		for ( int i = 0; i < entities; i++ ) {
+			xml.append( "<class entity-name=\"Entity" ).append( i ).append( "\" table=\"entity_" ).append( i ).append( "\">\n" )
+					.append( "<id name=\"id\" type=\"long\"/>\n" )
+					.append( "<property name=\"name\" type=\"string\"/>\n" )
+					.append( "<property name=\"amount\" type=\"big_decimal\"/>\n" )
+					.append( "<property name=\"created\" type=\"timestamp\"/>\n" );
+			if ( i > 0 ) {
+				xml.append( "<many-to-one name=\"previous\" entity-name=\"Entity" ).append( i - 1 )
+						.append( "\" column=\"previous_id\"/>\n" );
+			}
+			xml.append( "</class>\n" );
+		}
+		for ( int i = 0; i < entities; i++ ) {
+			final String entity = "Entity" + i;
+			xml.append( "<query name=\"" ).append( entity ).append( ".byName\">" )
+					.append( "from " ).append( entity ).append( " e where e.name = :name" )
+					.append( "</query>\n" )
+					.append( "<query name=\"" ).append( entity ).append( ".totals\">" )
+					.append( "select e.name, sum(e.amount) from " ).append( entity )
+					.append( " e where e.created &gt; :created group by e.name" )
+					.append( "</query>\n" )
+					.append( "<query name=\"" ).append( entity ).append( ".withPrevious\">" )
+					.append( i > 0
+							? "select e, p from " + entity + " e left join e.previous p where e.id = :id"
+							: "select e from " + entity + " e where e.id = :id" )
+					.append( "</query>\n" );
+		}
+		xml.append( "</hibernate-mapping>\n" );
+		mapping = xml.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@TearDown(Level.Invocation)
+	public void close() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SessionFactoryImplementor buildSessionFactory() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"startup",
+				configuration -> configuration
+						.addInputStream( new ByteArrayInputStream( mapping ) )
+						.setProperty( AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "none" )
+						.setProperty( AvailableSettings.QUERY_STARTUP_CHECKING, true )
+						.setProperty( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, parallelism )
+		);
+		return sessionFactory;
+	}
+}
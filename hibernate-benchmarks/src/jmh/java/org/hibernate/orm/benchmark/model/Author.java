@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * An author, the parent side of the benchmark model.
+ */
+@Entity(name = "Author")
+public class Author {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_seq")
+	@SequenceGenerator(name = "author_seq", allocationSize = 50)
+	private Long id;
+	private String name;
+	private int rating;
+
+	public Author() {
+	}
+
+	public Author(String name, int rating) {
+		this.name = name;
+		this.rating = rating;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getRating() {
+		return rating;
+	}
+
+	public void setRating(int rating) {
+		this.rating = rating;
+	}
+}
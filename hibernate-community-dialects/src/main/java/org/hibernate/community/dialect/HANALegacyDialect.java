@@ -1159,6 +1159,12 @@ public boolean supportsLateral() {
 		return getVersion().isSameOrAfter( 2, 0, 40 );
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// multi-row inserts are emulated using a union of selects
+		return 0;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return true;
@@ -1193,6 +1193,12 @@ public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// multi-row inserts are emulated using a union of selects
+		return 0;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
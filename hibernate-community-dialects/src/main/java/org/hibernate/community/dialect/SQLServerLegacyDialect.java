@@ -605,6 +605,11 @@ public boolean supportsValuesList() {
 		return getVersion().isSameOrAfter( 10 );
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return getVersion().isSameOrAfter( 10 ) ? 1000 : 0;
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return getVersion().isSameOrAfter( 16 );
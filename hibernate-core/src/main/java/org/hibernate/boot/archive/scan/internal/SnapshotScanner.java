@@ -0,0 +1,432 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} which records the result of another {@code Scanner}
+ * in a binary snapshot file, and reuses it on later bootstraps instead of
+ * scanning the archives again.
+ * <p>
+ * The snapshot is only reused if it was written by the same version of
+ * Hibernate, for the same scan options, and if the content of the scanned
+ * archives is unchanged. Archives living on the file system are identified
+ * by the names of their entries, relative to the archive, and by a checksum
+ * of each entry, which is read from the central directory of a JAR, and
+ * computed for the files of a directory. A snapshot written at build time
+ * therefore remains valid wherever the application is deployed. The content
+ * of an archive which does not live on the file system cannot be compared,
+ * so the snapshot is never reused when such an archive is scanned.
+ * <p>
+ * The descriptors restored from a snapshot hold the content of mapping
+ * files. The content of classes and {@code package-info} files is only
+ * needed by some integrations: when it is requested, the archives are
+ * scanned again, once, by the delegate {@code Scanner}.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER_SNAPSHOT
+ */
+public class SnapshotScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( SnapshotScanner.class );
+
+	// "HSCN"
+	private static final int MAGIC = 0x4853434E;
+	private static final int FORMAT_VERSION = 1;
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Scanner delegate;
+	private final Path snapshotFile;
+
+	public SnapshotScanner(Scanner delegate, Path snapshotFile) {
+		this.delegate = delegate;
+		this.snapshotFile = snapshotFile;
+	}
+
+	@Override
+	public void setArchiveDescriptorFactory(ArchiveDescriptorFactory archiveDescriptorFactory) {
+		delegate.setArchiveDescriptorFactory( archiveDescriptorFactory );
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final long fingerprint = fingerprint( environment, options );
+		final ScanResult snapshot = read( fingerprint, new FreshScan( delegate, environment, options, params ) );
+		if ( snapshot != null ) {
+			log.debugf( "Using scan snapshot [%s]", snapshotFile );
+			return snapshot;
+		}
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		write( fingerprint, scanResult );
+		return scanResult;
+	}
+
+	private ScanResult read(long fingerprint, FreshScan freshScan) {
+		if ( !Files.isRegularFile( snapshotFile ) ) {
+			return null;
+		}
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( snapshotFile ) ) ) ) {
+			if ( input.readInt() != MAGIC
+					|| input.readInt() != FORMAT_VERSION
+					|| !Version.getVersionString().equals( input.readUTF() )
+					|| input.readLong() != fingerprint ) {
+				log.debugf( "Scan snapshot [%s] is stale and will be rewritten", snapshotFile );
+				return null;
+			}
+
+			final int packageCount = input.readInt();
+			final Set<PackageDescriptor> packages = new LinkedHashSet<>( packageCount );
+			for ( int i = 0; i < packageCount; i++ ) {
+				packages.add( new SnapshotPackageDescriptor( input.readUTF(), freshScan ) );
+			}
+
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			final int classCount = input.readInt();
+			final Set<ClassDescriptor> classes = new LinkedHashSet<>( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = input.readUTF();
+				classes.add( new SnapshotClassDescriptor( name, categorizations[input.readByte()], freshScan ) );
+			}
+
+			final int mappingFileCount = input.readInt();
+			final Set<MappingFileDescriptor> mappingFiles = new LinkedHashSet<>( mappingFileCount );
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = input.readUTF();
+				final byte[] content = new byte[input.readInt()];
+				input.readFully( content );
+				mappingFiles.add( new SnapshotMappingFileDescriptor( name, content ) );
+			}
+
+			return new SnapshotScanResult( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan snapshot [%s]", snapshotFile );
+			return null;
+		}
+	}
+
+	private void write(long fingerprint, ScanResult scanResult) {
+		Path temporaryFile = null;
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write to a temporary file first, so that a concurrent bootstrap never sees a partial snapshot
+			temporaryFile = Files.createTempFile( directory, "scan", ".tmp" );
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( FORMAT_VERSION );
+				output.writeUTF( Version.getVersionString() );
+				output.writeLong( fingerprint );
+
+				output.writeInt( scanResult.getLocatedPackages().size() );
+				for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+					output.writeUTF( packageDescriptor.getName() );
+				}
+
+				output.writeInt( scanResult.getLocatedClasses().size() );
+				for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+					output.writeUTF( classDescriptor.getName() );
+					output.writeByte( classDescriptor.getCategorization().ordinal() );
+				}
+
+				output.writeInt( scanResult.getLocatedMappingFiles().size() );
+				for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+					output.writeUTF( mappingFileDescriptor.getName() );
+					// mapping files are small, so their content is kept in the snapshot
+					final byte[] content;
+					try ( InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream() ) {
+						content = stream.readAllBytes();
+					}
+					output.writeInt( content.length );
+					output.write( content );
+				}
+			}
+			Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+			log.debugf( "Wrote scan snapshot [%s]", snapshotFile );
+		}
+		catch (IOException | RuntimeException e) {
+			// the snapshot is only an optimization
+			log.debugf( e, "Unable to write scan snapshot [%s]", snapshotFile );
+			if ( temporaryFile != null ) {
+				try {
+					Files.deleteIfExists( temporaryFile );
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private static long fingerprint(ScanEnvironment environment, ScanOptions options) {
+		long hash = FNV_OFFSET_BASIS;
+		hash = mix( hash, options.canDetectUnlistedClassesInRoot() ? 1 : 0 );
+		hash = mix( hash, options.canDetectUnlistedClassesInNonRoot() ? 1 : 0 );
+		hash = mix( hash, options.canDetectHibernateMappingFiles() ? 1 : 0 );
+		hash = mixNames( hash, environment.getExplicitlyListedClassNames() );
+		hash = mixNames( hash, environment.getExplicitlyListedMappingFiles() );
+		hash = mixArchive( hash, environment.getRootUrl() );
+		final List<URL> nonRootUrls = environment.getNonRootUrls();
+		if ( nonRootUrls != null ) {
+			for ( URL url : nonRootUrls ) {
+				hash = mixArchive( hash, url );
+			}
+		}
+		return hash;
+	}
+
+	private static long mixNames(long hash, List<String> names) {
+		if ( names != null ) {
+			hash = mix( hash, names.size() );
+			for ( String name : names ) {
+				hash = mix( hash, name );
+			}
+		}
+		return hash;
+	}
+
+	private static long mixArchive(long hash, URL url) {
+		if ( url == null ) {
+			return mix( hash, 0 );
+		}
+		final Path path = localPath( url );
+		if ( path == null ) {
+			// not on the file system: the content cannot be compared,
+			// and the same location might hold different classes after
+			// a redeployment, so make sure the snapshot is never trusted
+			return mix( hash, System.nanoTime() );
+		}
+		try {
+			if ( Files.isDirectory( path ) ) {
+				// the order of traversal is unspecified, so combine the entries commutatively
+				long entries = 0;
+				try ( Stream<Path> files = Files.walk( path ) ) {
+					entries = files.filter( Files::isRegularFile )
+							.mapToLong( file -> mixEntry( path.relativize( file ).toString().replace( '\\', '/' ), checksum( file ) ) )
+							.sum();
+				}
+				return mix( hash, entries );
+			}
+			else if ( Files.isRegularFile( path ) ) {
+				long entries = 0;
+				try ( ZipFile zipFile = new ZipFile( path.toFile() ) ) {
+					final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+					while ( zipEntries.hasMoreElements() ) {
+						final ZipEntry entry = zipEntries.nextElement();
+						if ( !entry.isDirectory() ) {
+							entries += mixEntry( entry.getName(), entry.getCrc() );
+						}
+					}
+				}
+				return mix( hash, entries );
+			}
+			return mix( hash, 0 );
+		}
+		catch (IOException | UncheckedIOException e) {
+			// make sure the snapshot is never trusted
+			return mix( hash, System.nanoTime() );
+		}
+	}
+
+	private static long mixEntry(String name, long checksum) {
+		return mix( mix( FNV_OFFSET_BASIS, name ), checksum );
+	}
+
+	private static long checksum(Path file) {
+		try {
+			final CRC32 crc = new CRC32();
+			crc.update( Files.readAllBytes( file ) );
+			return crc.getValue();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static Path localPath(URL url) {
+		try {
+			URL fileUrl = url;
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final String spec = url.getFile();
+				final int separator = spec.indexOf( "!/" );
+				fileUrl = new URI( separator < 0 ? spec : spec.substring( 0, separator ) ).toURL();
+			}
+			return "file".equals( fileUrl.getProtocol() ) ? Path.of( fileUrl.toURI() ) : null;
+		}
+		catch (URISyntaxException | IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static long mix(long hash, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			hash = ( hash ^ value.charAt( i ) ) * FNV_PRIME;
+		}
+		return mix( hash, value.length() );
+	}
+
+	private static long mix(long hash, long value) {
+		for ( int i = 0; i < 8; i++ ) {
+			hash = ( hash ^ ( value & 0xff ) ) * FNV_PRIME;
+			value >>>= 8;
+		}
+		return hash;
+	}
+
+	private record SnapshotScanResult(
+			Set<PackageDescriptor> packages,
+			Set<ClassDescriptor> classes,
+			Set<MappingFileDescriptor> mappingFiles) implements ScanResult {
+		@Override
+		public Set<PackageDescriptor> getLocatedPackages() {
+			return packages;
+		}
+
+		@Override
+		public Set<ClassDescriptor> getLocatedClasses() {
+			return classes;
+		}
+
+		@Override
+		public Set<MappingFileDescriptor> getLocatedMappingFiles() {
+			return mappingFiles;
+		}
+	}
+
+	/**
+	 * Scans the archives with the delegate {@code Scanner}, when the content
+	 * of a class or package restored from a snapshot is requested.
+	 */
+	private static final class FreshScan {
+		private final Scanner delegate;
+		private final ScanEnvironment environment;
+		private final ScanOptions options;
+		private final ScanParameters params;
+
+		private Map<String, InputStreamAccess> packages;
+		private Map<String, InputStreamAccess> classes;
+
+		private FreshScan(Scanner delegate, ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+			this.delegate = delegate;
+			this.environment = environment;
+			this.options = options;
+			this.params = params;
+		}
+
+		private synchronized void scanIfNecessary() {
+			if ( classes == null ) {
+				log.debugf( "Scanning again to access classes restored from scan snapshot" );
+				final ScanResult scanResult = delegate.scan( environment, options, params );
+				packages = new HashMap<>();
+				for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+					packages.put( packageDescriptor.getName(), packageDescriptor.getStreamAccess() );
+				}
+				classes = new HashMap<>();
+				for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+					classes.put( classDescriptor.getName(), classDescriptor.getStreamAccess() );
+				}
+			}
+		}
+
+		private InputStreamAccess packageStreamAccess(String name) {
+			scanIfNecessary();
+			return found( packages.get( name ), name );
+		}
+
+		private InputStreamAccess classStreamAccess(String name) {
+			scanIfNecessary();
+			return found( classes.get( name ), name );
+		}
+
+		private static InputStreamAccess found(InputStreamAccess streamAccess, String name) {
+			if ( streamAccess == null ) {
+				throw new IllegalStateException( "[" + name + "] was restored from a scan snapshot, but is no longer found by scanning" );
+			}
+			return streamAccess;
+		}
+	}
+
+	private record SnapshotPackageDescriptor(String name, FreshScan freshScan) implements PackageDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return freshScan.packageStreamAccess( name );
+		}
+	}
+
+	private record SnapshotClassDescriptor(String name, Categorization categorization, FreshScan freshScan)
+			implements ClassDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Categorization getCategorization() {
+			return categorization;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return freshScan.classStreamAccess( name );
+		}
+	}
+
+	private record SnapshotMappingFileDescriptor(String name, byte[] content) implements MappingFileDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return new ByteArrayInputStreamAccess( name, content );
+		}
+	}
+}
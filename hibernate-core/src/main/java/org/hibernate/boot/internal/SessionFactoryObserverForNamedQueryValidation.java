@@ -8,6 +8,7 @@
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
 
@@ -33,8 +34,13 @@ public void sessionFactoryCreated(SessionFactory factory) {
 		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
-		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
-			queryEngine.validateNamedQueries();
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		if ( options.isNamedQueryStartupCheckingEnabled() ) {
+			queryEngine.validateNamedQueries( options.getNamedQueryStartupCheckingParallelism() );
+		}
+		if ( options.isNamedQueryInterpretationPinningEnabled() ) {
+			// after validation, the interpretations are usually already cached
+			queryEngine.getNamedObjectRepository().pinNamedQueryInterpretations( queryEngine );
 		}
 	}
 }
@@ -108,19 +108,24 @@ public static void bindQuery(
 	private static <T> NamedHqlQueryDefinitionImpl<T> createNamedQueryDefinition(
 			String queryName, String queryString, Class<T> resultClass, LockOptions lockOptions,
 			QueryHintDefinition hints, AnnotationTarget annotationTarget) {
-		return new NamedHqlQueryDefinitionImpl.Builder<T>(queryName, annotationTarget)
-				.setHqlString(queryString)
-				.setResultClass(resultClass)
-				.setCacheable(hints.getCacheability())
-				.setCacheMode(hints.getCacheMode())
-				.setCacheRegion(hints.getString(HibernateHints.HINT_CACHE_REGION))
-				.setTimeout(hints.getTimeout())
-				.setFetchSize(hints.getInteger(HibernateHints.HINT_FETCH_SIZE))
-				.setFlushMode(hints.getFlushMode())
-				.setReadOnly(hints.getBooleanWrapper(HibernateHints.HINT_READ_ONLY))
-				.setLockOptions(lockOptions)
-				.setComment(hints.getString(HibernateHints.HINT_COMMENT))
-				.build();
+		final NamedHqlQueryDefinitionImpl.Builder<T> builder =
+				new NamedHqlQueryDefinitionImpl.Builder<T>(queryName, annotationTarget)
+						.setHqlString(queryString)
+						.setResultClass(resultClass)
+						.setCacheable(hints.getCacheability())
+						.setCacheMode(hints.getCacheMode())
+						.setCacheRegion(hints.getString(HibernateHints.HINT_CACHE_REGION))
+						.setTimeout(hints.getTimeout())
+						.setFetchSize(hints.getInteger(HibernateHints.HINT_FETCH_SIZE))
+						.setFlushMode(hints.getFlushMode())
+						.setReadOnly(hints.getBooleanWrapper(HibernateHints.HINT_READ_ONLY))
+						.setLockOptions(lockOptions)
+						.setComment(hints.getString(HibernateHints.HINT_COMMENT));
+		final Boolean detachStreamedResults = hints.getBooleanWrapper(HibernateHints.HINT_DETACH_STREAMED_RESULTS);
+		if ( detachStreamedResults != null ) {
+			builder.addHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, detachStreamedResults );
+		}
+		return builder.build();
 	}
 
 	public static void bindNativeQuery(
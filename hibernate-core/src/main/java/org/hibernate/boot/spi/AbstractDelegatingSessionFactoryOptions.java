@@ -234,6 +234,16 @@ public boolean isNamedQueryStartupCheckingEnabled() {
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckingParallelism() {
+		return delegate.getNamedQueryStartupCheckingParallelism();
+	}
+
+	@Override
+	public boolean isNamedQueryInterpretationPinningEnabled() {
+		return delegate.isNamedQueryInterpretationPinningEnabled();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -304,6 +314,11 @@ public boolean isJdbcBatchVersionedData() {
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isStatelessBulkInsertsEnabled() {
+		return delegate.isStatelessBulkInsertsEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
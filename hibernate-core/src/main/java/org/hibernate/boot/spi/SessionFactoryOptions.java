@@ -238,6 +238,16 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	int getNamedQueryStartupCheckingParallelism();
+
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PIN_NAMED_INTERPRETATIONS
+	 */
+	boolean isNamedQueryInterpretationPinningEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_SECOND_LEVEL_CACHE
 	 */
@@ -296,6 +306,16 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#STATELESS_BULK_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isStatelessBulkInsertsEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#USE_SCROLLABLE_RESULTSET
 	 */
@@ -30,6 +30,7 @@
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -135,6 +136,45 @@ public Class<?> load(Class<?> referenceClass, Function<ByteBuddy, DynamicType.Bu
 		.getLoaded();
 	}
 
+	/**
+	 * Load a class generated by ByteBuddy as a {@linkplain MethodHandles.Lookup#defineHiddenClass
+	 * hidden class} in the nest of the given host class, so that the generated code may access
+	 * the private members declared by the host class.
+	 * <p>
+	 * The generated class must be in the package of the host class, and must not depend on any
+	 * auxiliary class, since a hidden class cannot be referenced by name.
+	 *
+	 * @param hostClass The class whose private members are accessed.
+	 * @param makeClassFunction A function building the class.
+	 * @return The loaded generated class.
+	 *
+	 * @throws HibernateException if the package of the host class is not open to Hibernate ORM,
+	 * or if the generated class depends on auxiliary classes
+	 */
+	public Class<?> loadNestmate(Class<?> hostClass, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		final Unloaded<?> result = make( makeClassFunction.apply( byteBuddy ) );
+		if ( !result.getAuxiliaries().isEmpty() ) {
+			throw new HibernateException( "Generated class '" + result.getTypeDescription().getName()
+					+ "' depends on auxiliary classes and cannot be defined as a hidden class" );
+		}
+		final Class<?> loaded;
+		try {
+			loaded = MethodHandles.privateLookupIn( hostClass, LOOKUP )
+					.defineHiddenClass( result.getBytes(), true, MethodHandles.Lookup.ClassOption.NESTMATE )
+					.lookupClass();
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			throw new HibernateException( "Unable to define a hidden class in the nest of '" + hostClass.getName()
+					+ "' (the package should be opened to Hibernate ORM)", e );
+		}
+		// what ByteBuddy would do when loading the class, e.g. to set the values of static fields
+		final LoadedTypeInitializer initializer = result.getLoadedTypeInitializers().get( result.getTypeDescription() );
+		if ( initializer != null ) {
+			initializer.onLoad( loaded );
+		}
+		return loaded;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
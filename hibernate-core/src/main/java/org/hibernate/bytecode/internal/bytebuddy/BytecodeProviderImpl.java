@@ -17,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerClassLocator;
@@ -47,6 +48,7 @@
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
@@ -227,8 +229,9 @@ public ReflectionOptimizer getReflectionOptimizer(
 
 		final Member[] getters = new Member[propertyAccessMap.size()];
 		final Member[] setters = new Member[propertyAccessMap.size()];
+		final boolean privateAccessors;
 		try {
-			findAccessors( clazz, propertyAccessMap, getters, setters );
+			privateAccessors = findAccessors( clazz, propertyAccessMap, getters, setters );
 		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
@@ -238,7 +241,7 @@ public ReflectionOptimizer getReflectionOptimizer(
 		Class<?> superClass = determineAccessOptimizerSuperClass( clazz, getters, setters );
 
 		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
-		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+		final Function<ByteBuddy, DynamicType.Builder<?>> bulkAccessorFunction = byteBuddy -> byteBuddy
 				.with( new NamingStrategy.SuffixingRandom(
 						OPTIMIZER_PROXY_NAMING_SUFFIX,
 						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
@@ -250,8 +253,21 @@ public ReflectionOptimizer getReflectionOptimizer(
 				.method( setPropertyValuesMethodName )
 				.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
 				.method( getPropertyNamesMethodName )
-				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
-		);
+				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+		final Class<?> bulkAccessor;
+		if ( privateAccessors ) {
+			// the accessor must be a nestmate of the class to access its private members
+			try {
+				bulkAccessor = byteBuddyState.loadNestmate( clazz, bulkAccessorFunction );
+			}
+			catch (HibernateException ex) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
+				return null;
+			}
+		}
+		else {
+			bulkAccessor = byteBuddyState.load( clazz, bulkAccessorFunction );
+		}
 
 		try {
 			return new ReflectionOptimizerImpl(
@@ -1177,11 +1193,16 @@ else if ( Modifier.isPrivate( setters[i].getModifiers() ) ) {
 		}
 	}
 
-	private static void findAccessors(
+	/**
+	 * @return whether any of the accessors is a private member of the given class,
+	 *         which may only be accessed by a nestmate of the class
+	 */
+	private static boolean findAccessors(
 			Class<?> clazz,
 			Map<String, PropertyAccess> propertyAccessMap,
 			Member[] getters,
 			Member[] setters) {
+		boolean privateAccessors = false;
 		int i = 0;
 		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
 			final PropertyAccess propertyAccess = entry.getValue();
@@ -1240,16 +1261,26 @@ else if ( setter instanceof SetterFieldImpl ) {
 						)
 				);
 			}
-			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
-			}
-			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
-			}
+			privateAccessors |= isPrivateAccessor( clazz, getterMember );
+			privateAccessors |= isPrivateAccessor( clazz, setterMember );
 			getters[i] = getterMember;
 			setters[i] = setterMember;
 			i++;
 		}
+		return privateAccessors;
+	}
+
+	private static boolean isPrivateAccessor(Class<?> clazz, Member member) {
+		if ( !Modifier.isPrivate( member.getModifiers() ) ) {
+			return false;
+		}
+		// a nestmate of the class can't access the private members of its superclasses
+		else if ( member.getDeclaringClass() != clazz || clazz.isInterface() ) {
+			throw new PrivateAccessorException( "private accessor [" + member.getName() + "]" );
+		}
+		else {
+			return true;
+		}
 	}
 
 	private static Method findAccessor(Class<?> containerClazz, String name, Class<?>[] params)
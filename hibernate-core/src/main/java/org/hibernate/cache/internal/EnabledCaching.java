@@ -42,6 +42,9 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.cfg.CacheSettings.NATURAL_ID_RESOLUTION_INDEX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -65,6 +68,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Map<NavigableRole,NaturalIdDataAccess> naturalIdAccessMap = new ConcurrentHashMap<>();
 	private final Map<NavigableRole,CollectionDataAccess> collectionAccessMap = new ConcurrentHashMap<>();
 
+	private final int naturalIdResolutionIndexSize;
+
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
@@ -82,6 +87,9 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 						.requireService( RegionFactory.class );
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
 
+		naturalIdResolutionIndexSize =
+				getInt( NATURAL_ID_RESOLUTION_INDEX_SIZE, sessionFactory.getProperties(), 0 );
+
 		if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			final TimestampsRegion timestampsRegion = regionFactory.buildTimestampsRegion(
 					RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
@@ -155,10 +163,11 @@ public void prime(Set<DomainDataRegionConfig> cacheRegionConfigs) {
 				final HashSet<NaturalIdDataAccess> accesses = new HashSet<>();
 
 				for ( NaturalIdDataCachingConfig naturalIdAccessConfig : regionConfig.getNaturalIdCaching() ) {
-					final NaturalIdDataAccess naturalIdDataAccess = naturalIdAccessMap.put(
-							naturalIdAccessConfig.getNavigableRole(),
+					final NaturalIdDataAccess naturalIdDataAccess = makeNaturalIdDataAccess(
+							naturalIdAccessConfig,
 							region.getNaturalIdDataAccess( naturalIdAccessConfig.getNavigableRole() )
 					);
+					naturalIdAccessMap.put( naturalIdAccessConfig.getNavigableRole(), naturalIdDataAccess );
 					accesses.add( naturalIdDataAccess );
 				}
 
@@ -328,6 +337,15 @@ public void evictEntityData() {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Natural-id data
 
+	private NaturalIdDataAccess makeNaturalIdDataAccess(
+			NaturalIdDataCachingConfig naturalIdAccessConfig,
+			NaturalIdDataAccess naturalIdDataAccess) {
+		// only immutable natural ids may be resolved without asking the region
+		return naturalIdResolutionIndexSize > 0 && !naturalIdAccessConfig.isMutable()
+				? new NaturalIdResolutionIndex( naturalIdDataAccess, naturalIdResolutionIndexSize )
+				: naturalIdDataAccess;
+	}
+
 	@Override
 	public void evictNaturalIdData(Class<?> entityClass) {
 		evictNaturalIdData( entityClass.getName() );
@@ -567,6 +585,14 @@ public Set<String> getCacheRegionNames() {
 	@Override
 	public void evictRegion(String regionName) {
 		getRegion( regionName ).clear();
+		final Set<NaturalIdDataAccess> naturalIdAccesses = legacyNaturalIdAccessesForRegion.get( regionName );
+		if ( naturalIdAccesses != null ) {
+			for ( NaturalIdDataAccess naturalIdAccess : naturalIdAccesses ) {
+				if ( naturalIdAccess instanceof NaturalIdResolutionIndex naturalIdResolutionIndex ) {
+					naturalIdResolutionIndex.clear();
+				}
+			}
+		}
 		final QueryResultsRegion queryResultsRegionWithDuplicateName = queryResultsRegionsByDuplicateName.get( regionName );
 		if ( queryResultsRegionWithDuplicateName != null ) {
 			queryResultsRegionWithDuplicateName.clear();
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_REGION_MAX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link RegionFactory} for a second-level cache local to the JVM, which does
+ * not depend on any third-party caching provider.
+ * <p>
+ * Entity, collection, natural id, and query results regions store their entries
+ * serialized, outside the Java heap, each bounded by
+ * {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_REGION_MAX_SIZE} bytes.
+ * Update timestamps are kept on the heap and never evicted, since the query
+ * cache relies on them being present.
+ * <p>
+ * The regions implement {@link ExtendedStatisticsSupport}, so that the number
+ * of entries and their size in bytes are reported by
+ * {@link org.hibernate.stat.CacheRegionStatistics}.
+ * <p>
+ * Since entries are not shared between JVMs, this factory is only suitable for
+ * a single application instance, or for data which is never modified.
+ *
+ * @see OffHeapStorageAccess
+ *
+ * @since 7.0
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	public static final long DEFAULT_REGION_MAX_SIZE = 64L * 1024 * 1024;
+
+	private long regionMaxSize = DEFAULT_REGION_MAX_SIZE;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		regionMaxSize = getLong( LOCAL_CACHE_REGION_MAX_SIZE, configValues, (int) DEFAULT_REGION_MAX_SIZE );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegion(
+				regionConfig,
+				this,
+				new OffHeapStorageAccess( regionMaxSize ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionMaxSize );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private static class LocalDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storageAccess;
+
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				OffHeapStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storageAccess.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+	}
+
+	private static class LocalQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storageAccess;
+
+		private LocalQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storageAccess.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentHashMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
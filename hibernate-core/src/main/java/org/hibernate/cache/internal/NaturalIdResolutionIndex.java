@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TinyLfuBoundedCache;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A {@link NaturalIdDataAccess} which remembers the natural id resolutions
+ * read from the second-level cache in a bounded map local to the
+ * {@link org.hibernate.SessionFactory}, so that repeated lookups of the same
+ * natural id do not go back to the cache region.
+ * <p>
+ * Only used for entities with an immutable natural id, whose resolution can
+ * only become stale when the entity is deleted. Every operation which might
+ * remove or change a resolution, including the eviction performed by entity
+ * delete actions, also removes it from the index, and resolutions
+ * are never added to the index by inserts, only by reads which hit the cache.
+ * <p>
+ * Lookups in the index are lock-free. When the index is full, resolutions
+ * are evicted by a {@linkplain TinyLfuBoundedCache W-TinyLFU} policy, which
+ * retains the natural ids looked up most frequently.
+ * <p>
+ * The index is not shared between JVMs, so it does not observe deletions
+ * performed by other instances of a clustered application. Nor does it
+ * observe the expiration of entries configured for the cache region: an
+ * indexed resolution is only removed by an invalidation, or to make room
+ * for another one.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_RESOLUTION_INDEX_SIZE
+ *
+ * @since 7.0
+ */
+public class NaturalIdResolutionIndex implements NaturalIdDataAccess {
+	private final NaturalIdDataAccess delegate;
+
+	private final TinyLfuBoundedCache<Object, Object> resolutions;
+	// incremented by every invalidation, so that a read of the cache which
+	// raced with an invalidation does not add a stale resolution
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public NaturalIdResolutionIndex(NaturalIdDataAccess delegate, int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maxSize );
+		}
+		this.delegate = delegate;
+		this.resolutions = new TinyLfuBoundedCache<>( maxSize, null );
+	}
+
+	/**
+	 * The number of resolutions currently held by the index.
+	 */
+	public int size() {
+		return resolutions.size();
+	}
+
+	/**
+	 * Remove all resolutions from the index, leaving the cache region untouched.
+	 */
+	public void clear() {
+		invalidations.incrementAndGet();
+		resolutions.clear();
+	}
+
+	// called after delegating, so that a concurrent read of the cache
+	// either sees the change, or notices the invalidation
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		resolutions.remove( key );
+	}
+
+	private void index(Object key, Object id, long invalidationsBeforeRead) {
+		resolutions.put( key, id );
+		if ( invalidations.get() != invalidationsBeforeRead ) {
+			// an invalidation happened since we read the cache, so
+			// we can't tell if the resolution we just read is stale
+			resolutions.remove( key, id );
+		}
+	}
+
+	@Override
+	public Object get(SharedSessionContractImplementor session, Object key) {
+		final Object indexed = resolutions.get( key );
+		if ( indexed != null ) {
+			return indexed;
+		}
+		final long invalidationsBeforeRead = invalidations.get();
+		final Object id = delegate.get( session, key );
+		if ( id != null ) {
+			index( key, id, invalidationsBeforeRead );
+		}
+		return id;
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object naturalIdValues,
+			EntityPersister rootEntityDescriptor,
+			SharedSessionContractImplementor session) {
+		return delegate.generateCacheKey( naturalIdValues, rootEntityDescriptor, session );
+	}
+
+	@Override
+	public Object getNaturalIdValues(Object cacheKey) {
+		return delegate.getNaturalIdValues( cacheKey );
+	}
+
+	@Override
+	public DomainDataRegion getRegion() {
+		return delegate.getRegion();
+	}
+
+	@Override
+	public AccessType getAccessType() {
+		return delegate.getAccessType();
+	}
+
+	@Override
+	public boolean insert(SharedSessionContractImplementor session, Object key, Object value) {
+		return delegate.insert( session, key, value );
+	}
+
+	@Override
+	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		return delegate.afterInsert( session, key, value );
+	}
+
+	@Override
+	public boolean update(SharedSessionContractImplementor session, Object key, Object value) {
+		try {
+			return delegate.update( session, key, value );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		try {
+			return delegate.afterUpdate( session, key, value, lock );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public boolean putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return delegate.putFromLoad( session, key, value, version );
+	}
+
+	@Override
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		return delegate.putFromLoad( session, key, value, version, minimalPutOverride );
+	}
+
+	@Override
+	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		try {
+			return delegate.lockItem( session, key, version );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		try {
+			delegate.unlockItem( session, key, lock );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void remove(SharedSessionContractImplementor session, Object key) {
+		try {
+			delegate.remove( session, key );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void removeAll(SharedSessionContractImplementor session) {
+		try {
+			delegate.removeAll( session );
+		}
+		finally {
+			clear();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return resolutions.containsKey( key ) || delegate.contains( key );
+	}
+
+	@Override
+	public SoftLock lockRegion() {
+		try {
+			return delegate.lockRegion();
+		}
+		finally {
+			clear();
+		}
+	}
+
+	@Override
+	public void unlockRegion(SoftLock lock) {
+		try {
+			delegate.unlockRegion( lock );
+		}
+		finally {
+			clear();
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		try {
+			delegate.evict( key );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void evictAll() {
+		try {
+			delegate.evictAll();
+		}
+		finally {
+			clear();
+		}
+	}
+}
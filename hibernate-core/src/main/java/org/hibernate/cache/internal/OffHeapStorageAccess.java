@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import static org.hibernate.internal.util.SerializationHelper.defaultClassLoader;
+import static org.hibernate.internal.util.SerializationHelper.hibernateClassLoader;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the cached values in serialized
+ * form, in {@linkplain ByteBuffer#allocateDirect direct buffers} outside the
+ * Java heap, so that a large cache contributes one small index entry per value
+ * to the work of the garbage collector, instead of the whole graph of
+ * disassembled state.
+ * <p>
+ * The serialized values are appended to a ring of fixed-size slabs, allocated
+ * on demand, whose total size is bounded. When the slab being filled is full,
+ * the next one is reclaimed: the values it holds which were read since they
+ * were written are moved to the start of the slab, and the others are evicted.
+ * Eviction is therefore an approximation of least recently used, in the manner
+ * of the CLOCK algorithm. A value larger than a slab is never cached.
+ * <p>
+ * Reads never block each other: the index is a {@link ConcurrentHashMap}, and
+ * the bytes are copied out of the slab under an optimistic {@link StampedLock}
+ * read, which only falls back to a read lock when the slab was reclaimed
+ * concurrently. Writes are serialized by a lock.
+ * <p>
+ * Values which are not {@link Serializable} are kept on the heap, do not count
+ * toward the size in bytes, and at most {@value #MAX_HEAP_ENTRIES} of them are
+ * retained, the oldest being evicted first.
+ * <p>
+ * Since every read deserializes a fresh copy, and every write serializes the
+ * value as it is at the time of the put, cached values are stored by value.
+ *
+ * @see LocalRegionFactory
+ *
+ * @since 7.0
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	public static final int MAX_HEAP_ENTRIES = 1024;
+
+	private static final int MAX_SLAB_SIZE = 1024 * 1024;
+	private static final int MIN_SLAB_COUNT = 4;
+
+	private final int slabSize;
+	private final Slab[] slabs;
+	private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+	// guards every modification of the slabs and of the index
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final ArrayDeque<HeapEntry> heapEntries = new ArrayDeque<>();
+	private int currentSlab;
+	private volatile long sizeInBytes;
+
+	public OffHeapStorageAccess(long maxSizeInBytes) {
+		if ( maxSizeInBytes <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maxSizeInBytes );
+		}
+		slabSize = (int) Math.max( 1, Math.min( MAX_SLAB_SIZE, maxSizeInBytes / MIN_SLAB_COUNT ) );
+		slabs = new Slab[(int) Math.min( Integer.MAX_VALUE - 8, maxSizeInBytes / slabSize )];
+		for ( int i = 0; i < slabs.length; i++ ) {
+			slabs[i] = new Slab();
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Entry entry = entries.get( key );
+		if ( entry instanceof OffHeapEntry offHeapEntry ) {
+			final byte[] bytes = offHeapEntry.read();
+			return bytes == null ? null : deserialize( bytes );
+		}
+		else {
+			return entry instanceof HeapEntry heapEntry ? heapEntry.value : null;
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = serialize( value );
+		if ( bytes != null && bytes.length > slabSize ) {
+			// too big to ever fit, just make sure no stale value survives
+			evictData( key );
+			return;
+		}
+		writeLock.lock();
+		try {
+			final Entry entry = bytes == null ? new HeapEntry( key, value ) : allocate( key, bytes );
+			remove( entries.put( key, entry ) );
+			if ( entry instanceof HeapEntry heapEntry ) {
+				heapEntries.add( heapEntry );
+				if ( heapEntries.size() > MAX_HEAP_ENTRIES ) {
+					final HeapEntry oldest = heapEntries.remove();
+					entries.remove( oldest.key, oldest );
+				}
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return entries.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		clear( false );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		writeLock.lock();
+		try {
+			remove( entries.remove( key ) );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		// the direct buffers are freed once they become unreachable
+		clear( true );
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return entries.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return sizeInBytes;
+	}
+
+	private void clear(boolean releaseBuffers) {
+		writeLock.lock();
+		try {
+			for ( Slab slab : slabs ) {
+				final long stamp = slab.lock.writeLock();
+				try {
+					slab.entries.forEach( entry -> entry.live = false );
+					slab.entries = new ArrayList<>();
+					slab.position = 0;
+					if ( releaseBuffers ) {
+						slab.buffer = null;
+					}
+				}
+				finally {
+					slab.lock.unlockWrite( stamp );
+				}
+			}
+			entries.clear();
+			heapEntries.clear();
+			currentSlab = 0;
+			sizeInBytes = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	// must be called holding the write lock
+	private void remove(Entry entry) {
+		if ( entry instanceof OffHeapEntry offHeapEntry ) {
+			// the bytes stay in the slab until it is reclaimed, so
+			// that a concurrent read of the old value still succeeds
+			offHeapEntry.live = false;
+			sizeInBytes -= offHeapEntry.length;
+		}
+		else if ( entry instanceof HeapEntry heapEntry ) {
+			heapEntries.remove( heapEntry );
+		}
+	}
+
+	// must be called holding the write lock
+	private OffHeapEntry allocate(Object key, byte[] bytes) {
+		Slab slab = slabs[currentSlab];
+		if ( slab.buffer == null ) {
+			slab.buffer = ByteBuffer.allocateDirect( slabSize );
+		}
+		else if ( slabSize - slab.position < bytes.length ) {
+			currentSlab = ( currentSlab + 1 ) % slabs.length;
+			slab = slabs[currentSlab];
+			reclaim( slab, bytes.length );
+		}
+		final long stamp = slab.lock.writeLock();
+		try {
+			slab.buffer.put( slab.position, bytes );
+			final OffHeapEntry entry = new OffHeapEntry( key, slab, slab.position, bytes.length );
+			slab.entries.add( entry );
+			slab.position += bytes.length;
+			sizeInBytes += bytes.length;
+			return entry;
+		}
+		finally {
+			slab.lock.unlockWrite( stamp );
+		}
+	}
+
+	// must be called holding the write lock
+	private void reclaim(Slab slab, int required) {
+		if ( slab.buffer == null ) {
+			slab.buffer = ByteBuffer.allocateDirect( slabSize );
+			return;
+		}
+		final long stamp = slab.lock.writeLock();
+		try {
+			final List<OffHeapEntry> retained = new ArrayList<>();
+			int position = 0;
+			for ( OffHeapEntry entry : slab.entries ) {
+				if ( entry.live ) {
+					if ( entry.accessed && position + entry.length <= slabSize - required ) {
+						// second chance for a value read since the slab was last reclaimed
+						entry.accessed = false;
+						if ( entry.offset != position ) {
+							final byte[] bytes = new byte[entry.length];
+							slab.buffer.get( entry.offset, bytes );
+							slab.buffer.put( position, bytes );
+							entry.offset = position;
+						}
+						position += entry.length;
+						retained.add( entry );
+					}
+					else {
+						entry.live = false;
+						entries.remove( entry.key, entry );
+						sizeInBytes -= entry.length;
+					}
+				}
+			}
+			slab.entries = retained;
+			slab.position = position;
+		}
+		finally {
+			slab.lock.unlockWrite( stamp );
+		}
+	}
+
+	private static byte[] serialize(Object value) {
+		if ( value instanceof Serializable serializable ) {
+			try {
+				return SerializationHelper.serialize( serializable );
+			}
+			catch (SerializationException e) {
+				// some part of the value is not serializable
+			}
+		}
+		return null;
+	}
+
+	private static Object deserialize(byte[] bytes) {
+		return SerializationHelper.doDeserialize(
+				new ByteArrayInputStream( bytes ),
+				defaultClassLoader(),
+				hibernateClassLoader(),
+				null
+		);
+	}
+
+	private static class Slab {
+		private final StampedLock lock = new StampedLock();
+		// allocated on demand, written holding the write lock
+		private volatile ByteBuffer buffer;
+		// guarded by the write lock
+		private List<OffHeapEntry> entries = new ArrayList<>();
+		private int position;
+	}
+
+	private abstract static class Entry {
+		final Object key;
+
+		private Entry(Object key) {
+			this.key = key;
+		}
+	}
+
+	private static class HeapEntry extends Entry {
+		private final Object value;
+
+		private HeapEntry(Object key, Object value) {
+			super( key );
+			this.value = value;
+		}
+	}
+
+	private static class OffHeapEntry extends Entry {
+		private final Slab slab;
+		private final int length;
+		private volatile int offset;
+		private volatile boolean live = true;
+		private volatile boolean accessed;
+
+		private OffHeapEntry(Object key, Slab slab, int offset, int length) {
+			super( key );
+			this.slab = slab;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		private byte[] read() {
+			if ( !accessed ) {
+				accessed = true;
+			}
+			final StampedLock lock = slab.lock;
+			final long stamp = lock.tryOptimisticRead();
+			final byte[] bytes = copy();
+			if ( lock.validate( stamp ) ) {
+				return bytes;
+			}
+			// the slab was written concurrently, and the copy might be torn
+			final long readStamp = lock.readLock();
+			try {
+				return copy();
+			}
+			finally {
+				lock.unlockRead( readStamp );
+			}
+		}
+
+		private byte[] copy() {
+			final ByteBuffer buffer = slab.buffer;
+			if ( !live || buffer == null ) {
+				return null;
+			}
+			// the offset is always in bounds, even if it is stale
+			final byte[] bytes = new byte[length];
+			buffer.get( offset, bytes );
+			return bytes;
+		}
+	}
+}
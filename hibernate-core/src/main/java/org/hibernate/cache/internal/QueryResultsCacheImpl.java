@@ -17,6 +17,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -82,7 +83,8 @@ public boolean put(
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// the columnar form is immutable, and copying would materialize every row
+		return results instanceof ColumnarCachedResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -4,7 +4,10 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -54,31 +57,32 @@ public void preInvalidate(
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
-			}
-			final EventManager eventManager = session.getEventManager();
-			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventManager.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						EventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
-			}
+		final Map<String, Long> timestamps = timestamps( spaces, ts );
+		if ( debugEnabled ) {
+			log.debugf( "Pre-invalidating spaces %s, timestamp: %s", timestamps.keySet(), ts );
+		}
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
 
-			if ( stats ) {
+			//put() has nowait semantics, is this really appropriate?
+			//note that it needs to be async replication, never local or sync
+			timestampsRegion.putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					EventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE
+			);
+			eventListenerManager.cachePutEnd();
+		}
+
+		if ( stats ) {
+			for ( int i = 0; i < timestamps.size(); i++ ) {
 				statistics.updateTimestampsCachePut();
 			}
 		}
@@ -94,49 +98,50 @@ public void invalidate(
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
-			}
+		final Map<String, Long> timestamps = timestamps( spaces, ts );
+		if ( debugEnabled ) {
+			log.debugf( "Invalidating spaces %s, timestamp: %s", timestamps.keySet(), ts );
+		}
 
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			final EventManager eventManager = session.getEventManager();
-			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventManager.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						EventManager.CacheActionDescription.TIMESTAMP_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					EventManager.CacheActionDescription.TIMESTAMP_INVALIDATE
+			);
+			eventListenerManager.cachePutEnd();
 
-				if ( stats ) {
+			if ( stats ) {
+				for ( int i = 0; i < timestamps.size(); i++ ) {
 					statistics.updateTimestampsCachePut();
 				}
 			}
 		}
 	}
 
+	private static Map<String, Long> timestamps(String[] spaces, Long ts) {
+		final Map<String, Long> timestamps = new LinkedHashMap<>( spaces.length * 2 );
+		for ( String space : spaces ) {
+			timestamps.put( space, ts );
+		}
+		return timestamps;
+	}
+
 	@Override
 	public boolean isUpToDate(
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-
-		return true;
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
 	}
 
 	private boolean isSpaceOutOfDate(
@@ -144,7 +149,14 @@ private boolean isSpaceOutOfDate(
 			Long timestamp,
 			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+		return isSpaceOutOfDate( space, getLastUpdateTimestampForSpace( space, session ), timestamp, statistics );
+	}
+
+	private boolean isSpaceOutOfDate(
+			String space,
+			Long lastUpdate,
+			Long timestamp,
+			StatisticsImplementor statistics) {
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -181,8 +193,17 @@ public boolean isUpToDate(
 			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 
+		if ( spaces.isEmpty() ) {
+			return true;
+		}
+		else if ( spaces.size() == 1 ) {
+			return !isSpaceOutOfDate( spaces.iterator().next(), timestamp, session, statistics );
+		}
+
+		// fetch the timestamps of all the spaces at once
+		final Map<Object, Object> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, (Long) lastUpdates.get( space ), timestamp, statistics ) ) {
 				return false;
 			}
 		}
@@ -210,4 +231,27 @@ private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractI
 		return ts;
 	}
 
+	private Map<Object, Object> getLastUpdateTimestampsForSpaces(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		Map<Object, Object> timestamps = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			timestamps = timestampsRegion.getAllFromCache( spaces, session );
+		}
+		finally {
+			final boolean hit = timestamps != null && !timestamps.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					timestampsRegion,
+					hit
+			);
+			session.getEventListenerManager().cacheGetEnd( hit );
+		}
+		return timestamps;
+	}
+
 }
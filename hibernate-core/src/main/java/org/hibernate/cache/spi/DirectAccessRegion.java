@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -25,4 +29,33 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Get the values with the given keys, ideally in a single round trip to
+	 * the underlying cache.
+	 *
+	 * @return the values which were found, by key
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Put the given values by key, ideally in a single round trip to the
+	 * underlying cache.
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		values.forEach( (key, value) -> putIntoCache( key, value, session ) );
+	}
 }
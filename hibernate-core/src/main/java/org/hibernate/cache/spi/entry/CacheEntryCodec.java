@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of the disassembled state held by cache entries,
+ * used by their serial forms in place of default Java serialization.
+ * <p>
+ * Disassembled state consists almost entirely of {@code null}s, strings,
+ * numbers, booleans, and nested arrays for embeddables and collection
+ * elements. Each value is written as a one-byte tag followed by a minimal
+ * encoding of the value: integral numbers as variable-length zig-zag
+ * integers, strings as UTF-8. Any other value falls back to
+ * {@link ObjectOutput#writeObject}, so that every {@link Serializable}
+ * value remains supported.
+ * <p>
+ * Every serial form starts with {@link #FORMAT_VERSION}, so that entries
+ * written in an incompatible format are rejected rather than misread.
+ *
+ * @since 7.0
+ */
+final class CacheEntryCodec {
+	static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte OBJECT = 1;
+	private static final byte ARRAY = 2;
+	private static final byte STRING = 3;
+	private static final byte INTEGER = 4;
+	private static final byte LONG = 5;
+	private static final byte SHORT = 6;
+	private static final byte BYTE = 7;
+	private static final byte TRUE = 8;
+	private static final byte FALSE = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte FLOAT = 11;
+	private static final byte CHARACTER = 12;
+	private static final byte BYTES = 13;
+	private static final byte UUID_VALUE = 14;
+
+	private CacheEntryCodec() {
+	}
+
+	static void writeHeader(ObjectOutput out) throws IOException {
+		out.writeByte( FORMAT_VERSION );
+	}
+
+	static void readHeader(ObjectInput in) throws IOException {
+		final byte version = in.readByte();
+		if ( version != FORMAT_VERSION ) {
+			throw new InvalidObjectException( "Unsupported cache entry format version: " + version );
+		}
+	}
+
+	static void writeValue(ObjectOutput out, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		// only plain arrays, an array of a subtype must keep its runtime type
+		else if ( value.getClass() == Serializable[].class || value.getClass() == Object[].class ) {
+			final Object[] array = (Object[]) value;
+			out.writeByte( ARRAY );
+			out.writeBoolean( value.getClass() == Serializable[].class );
+			writeVarLong( out, array.length );
+			for ( Object element : array ) {
+				writeValue( out, element );
+			}
+		}
+		else if ( value instanceof String string ) {
+			out.writeByte( STRING );
+			writeBytes( out, string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		else if ( value instanceof Integer number ) {
+			out.writeByte( INTEGER );
+			writeVarLong( out, number );
+		}
+		else if ( value instanceof Long number ) {
+			out.writeByte( LONG );
+			writeVarLong( out, number );
+		}
+		else if ( value instanceof Short number ) {
+			out.writeByte( SHORT );
+			writeVarLong( out, number );
+		}
+		else if ( value instanceof Byte number ) {
+			out.writeByte( BYTE );
+			out.writeByte( number );
+		}
+		else if ( value instanceof Boolean bool ) {
+			out.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Double number ) {
+			out.writeByte( DOUBLE );
+			out.writeDouble( number );
+		}
+		else if ( value instanceof Float number ) {
+			out.writeByte( FLOAT );
+			out.writeFloat( number );
+		}
+		else if ( value instanceof Character character ) {
+			out.writeByte( CHARACTER );
+			out.writeChar( character );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			out.writeByte( BYTES );
+			writeBytes( out, bytes );
+		}
+		else if ( value instanceof UUID uuid ) {
+			out.writeByte( UUID_VALUE );
+			out.writeLong( uuid.getMostSignificantBits() );
+			out.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else {
+			out.writeByte( OBJECT );
+			out.writeObject( value );
+		}
+	}
+
+	static Object readValue(ObjectInput in) throws IOException, ClassNotFoundException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case OBJECT:
+				return in.readObject();
+			case ARRAY: {
+				final boolean serializable = in.readBoolean();
+				final int length = (int) readVarLong( in );
+				final Object[] array = serializable ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readValue( in );
+				}
+				return array;
+			}
+			case STRING:
+				return new String( readBytes( in ), StandardCharsets.UTF_8 );
+			case INTEGER:
+				return (int) readVarLong( in );
+			case LONG:
+				return readVarLong( in );
+			case SHORT:
+				return (short) readVarLong( in );
+			case BYTE:
+				return in.readByte();
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case DOUBLE:
+				return in.readDouble();
+			case FLOAT:
+				return in.readFloat();
+			case CHARACTER:
+				return in.readChar();
+			case BYTES:
+				return readBytes( in );
+			case UUID_VALUE:
+				return new UUID( in.readLong(), in.readLong() );
+			default:
+				throw new InvalidObjectException( "Unknown cache entry value tag: " + tag );
+		}
+	}
+
+	private static void writeBytes(ObjectOutput out, byte[] bytes) throws IOException {
+		writeVarLong( out, bytes.length );
+		out.write( bytes );
+	}
+
+	private static byte[] readBytes(ObjectInput in) throws IOException {
+		final byte[] bytes = new byte[(int) readVarLong( in )];
+		in.readFully( bytes );
+		return bytes;
+	}
+
+	private static void writeVarLong(ObjectOutput out, long value) throws IOException {
+		// zig-zag, so that small negative numbers are short too
+		long bits = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( bits & ~0x7FL ) != 0 ) {
+			out.writeByte( (int) ( ( bits & 0x7F ) | 0x80 ) );
+			bits >>>= 7;
+		}
+		out.writeByte( (int) bits );
+	}
+
+	private static long readVarLong(ObjectInput in) throws IOException {
+		long bits = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final byte b = in.readByte();
+			bits |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return ( bits >>> 1 ) ^ -( bits & 1 );
+			}
+		}
+		throw new InvalidObjectException( "Malformed variable-length integer" );
+	}
+}
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.entry;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 
 import org.hibernate.collection.spi.PersistentCollection;
@@ -62,4 +66,40 @@ public String toString() {
 		return "CollectionCacheEntry" + ArrayHelper.toString( getState() );
 	}
 
+	private Object writeReplace() {
+		return new SerialForm( state );
+	}
+
+	/**
+	 * The serialized form of a {@link CollectionCacheEntry}, written using
+	 * the compact encoding of {@link CacheEntryCodec}.
+	 */
+	private static final class SerialForm implements Externalizable {
+		private Object state;
+
+		public SerialForm() {
+			// for deserialization
+		}
+
+		private SerialForm(Object state) {
+			this.state = state;
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput out) throws IOException {
+			CacheEntryCodec.writeHeader( out );
+			CacheEntryCodec.writeValue( out, state );
+		}
+
+		@Override
+		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+			CacheEntryCodec.readHeader( in );
+			state = CacheEntryCodec.readValue( in );
+		}
+
+		private Object readResolve() {
+			return new CollectionCacheEntry( (Serializable) state );
+		}
+	}
+
 }
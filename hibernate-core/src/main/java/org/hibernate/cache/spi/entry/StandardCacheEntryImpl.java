@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.entry;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
@@ -157,4 +161,48 @@ public String toString() {
 		return "CacheEntry(" + subclass + ')';
 	}
 
+	private Object writeReplace() {
+		return new SerialForm( disassembledState, subclass, version );
+	}
+
+	/**
+	 * The serialized form of a {@link StandardCacheEntryImpl}, written using
+	 * the compact encoding of {@link CacheEntryCodec}.
+	 */
+	private static final class SerialForm implements Externalizable {
+		private Serializable[] disassembledState;
+		private String subclass;
+		private Object version;
+
+		public SerialForm() {
+			// for deserialization
+		}
+
+		private SerialForm(Serializable[] disassembledState, String subclass, Object version) {
+			this.disassembledState = disassembledState;
+			this.subclass = subclass;
+			this.version = version;
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput out) throws IOException {
+			CacheEntryCodec.writeHeader( out );
+			out.writeUTF( subclass );
+			CacheEntryCodec.writeValue( out, version );
+			CacheEntryCodec.writeValue( out, disassembledState );
+		}
+
+		@Override
+		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+			CacheEntryCodec.readHeader( in );
+			subclass = in.readUTF();
+			version = CacheEntryCodec.readValue( in );
+			disassembledState = (Serializable[]) CacheEntryCodec.readValue( in );
+		}
+
+		private Object readResolve() {
+			return new StandardCacheEntryImpl( disassembledState, subclass, version );
+		}
+	}
+
 }
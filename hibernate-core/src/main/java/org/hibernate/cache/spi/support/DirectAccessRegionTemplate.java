@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -42,6 +45,16 @@ public void putIntoCache(Object key, Object value, SharedSessionContractImplemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		getStorageAccess().putAllIntoCache( values, session );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
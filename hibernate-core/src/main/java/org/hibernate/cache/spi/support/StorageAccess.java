@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -26,6 +30,39 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items with the given keys from the cache, ideally in a single
+	 * round trip to the underlying cache.
+	 *
+	 * @return the items which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put the given items into the cache, ideally in a single round trip to
+	 * the underlying cache.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putIntoCache( key, value, session ) );
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -63,6 +64,42 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that batched {@code insert ... values (...)} statements
+	 * should be rewritten as multi-row {@code insert ... values (...), (...)} statements,
+	 * each inserting as many rows of the batch as the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}
+	 * and the {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertLimit row limit}
+	 * allow, instead of relying on JDBC batching. This reduces the number of round trips
+	 * to the database for drivers which execute a JDBC batch one statement at a time.
+	 * <p>
+	 * Only takes effect when {@value #STATEMENT_BATCH_SIZE} is greater than 1 and the
+	 * database {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertLimit supports}
+	 * multi-row inserts natively.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, specifies that {@link org.hibernate.StatelessSession#insertMultiple}
+	 * should load the rows of entities mapped to a single table in bulk, using the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertStrategy bulk insert strategy}
+	 * of the dialect, for example, {@code copy ... from stdin} on PostgreSQL.
+	 * <p>
+	 * Entities mapped to several tables, or with values generated by the database
+	 * on insert, are still inserted one at a time.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATELESS_BULK_INSERTS = "hibernate.jdbc.stateless_bulk_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -216,6 +216,44 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * When {@link org.hibernate.cache.internal.LocalRegionFactory} is used, the
+	 * maximum number of bytes of serialized cache entries held by each entity,
+	 * collection, natural id, or query results region. When a region exceeds
+	 * this size, the entries which were not read recently are evicted. Entries
+	 * are stored in slabs of at most 1 MiB, and a larger entry is never cached.
+	 *
+	 * @settingDefault {@code 67108864} (64 MiB)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_REGION_MAX_SIZE = "hibernate.cache.local.region_max_size";
+
+	/**
+	 * The maximum number of natural id resolutions remembered, for each entity
+	 * with an immutable {@linkplain org.hibernate.annotations.NaturalIdCache
+	 * cached natural id}, by an index local to the {@link org.hibernate.SessionFactory}.
+	 * Natural id lookups which hit the index do not access the second-level
+	 * cache region at all. Resolutions are removed from the index when the
+	 * entity is deleted or the natural id cache is evicted.
+	 * <p>
+	 * The index does not observe deletions performed by other JVMs, so it
+	 * should only be enabled for a single application instance, or for
+	 * entities which are never deleted. Nor does it observe the expiration
+	 * of entries configured for the natural id cache region: a resolution
+	 * remains in the index until it is invalidated or evicted to make room
+	 * for another one.
+	 *
+	 * @settingDefault {@code 0}, which disables the index
+	 *
+	 * @see org.hibernate.cache.internal.NaturalIdResolutionIndex
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NATURAL_ID_RESOLUTION_INDEX_SIZE = "hibernate.cache.natural_id_resolution_index_size";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -151,6 +151,27 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies the path of a file holding a snapshot of the result of scanning.
+	 * <p>
+	 * When the file exists, and was written for the same version of Hibernate,
+	 * the same scan options, and scanned archives with the same content, the
+	 * classes, packages and mapping files it lists are used instead of scanning
+	 * the archives again. Otherwise, the archives are scanned and the file is
+	 * (re)written. Since archives are compared by the names and checksums of
+	 * their entries, and not by their location, the file may be produced at
+	 * build time and shipped along with the application. The file is never
+	 * used when an archive which does not live on the file system is scanned.
+	 * <p>
+	 * By default, no snapshot is used.
+	 *
+	 * @see org.hibernate.boot.archive.scan.internal.SnapshotScanner
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCANNER_SNAPSHOT = "hibernate.archive.scan_snapshot";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
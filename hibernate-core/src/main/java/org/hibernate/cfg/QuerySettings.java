@@ -82,6 +82,37 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to {@linkplain #QUERY_STARTUP_CHECKING check
+	 * named queries} during startup. When greater than {@code 1}, the named
+	 * HQL queries are interpreted concurrently on a dedicated fork-join pool,
+	 * which may considerably reduce the startup time of applications with
+	 * many named queries.
+	 *
+	 * @settingDefault {@code 1} - named queries are checked one at a time.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
+	/**
+	 * When enabled, the interpretation of every named HQL query is resolved
+	 * during startup and kept with the named query, so that it is never
+	 * evicted from the {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE query plan cache}
+	 * and the first execution of a named query does not need to parse it.
+	 * <p>
+	 * Since every named query is interpreted, a broken named query causes
+	 * startup to fail, even if {@linkplain #QUERY_STARTUP_CHECKING checking}
+	 * is disabled.
+	 *
+	 * @settingDefault {@code false} - named query interpretations are only cached
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PIN_NAMED_INTERPRETATIONS = "hibernate.query.pin_named_query_interpretations";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -270,6 +301,27 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the eviction policy of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}. Accepts:
+	 * <ul>
+	 * <li>{@code lirs}, the default, a cache with segment locks and
+	 *     LIRS eviction, or
+	 * <li>{@code tinylfu}, a cache whose retrievals never block, and which
+	 *     admits new entries based on an estimate of how frequently they are
+	 *     requested, keeping a higher hit rate when the query mix shifts.
+	 *     It also reports {@linkplain org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount
+	 *     evictions of query plans} to the statistics.
+	 * </ul>
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -23,6 +23,8 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
+import org.hibernate.dialect.bulk.StandardBulkInsertStrategy;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -4383,6 +4385,22 @@ public MultiKeyLoadSizingStrategy getBatchLoadSizingStrategy() {
 		return getMultiKeyLoadSizingStrategy();
 	}
 
+	/**
+	 * The strategy used by {@link org.hibernate.StatelessSession#insertMultiple}
+	 * to load the rows of an entity table in bulk.
+	 *
+	 * @implNote By default, the rows are inserted using a JDBC batch
+	 *           of {@code insert} statements.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#STATELESS_BULK_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public BulkInsertStrategy getBulkInsertStrategy(ServiceRegistry serviceRegistry) {
+		return StandardBulkInsertStrategy.INSTANCE;
+	}
+
 	private int calculateBatchSize(int numberOfColumns, int numberOfKeys, boolean padToPowerOfTwo) {
 		final int batchSize = padToPowerOfTwo ? ceilingPowerOfTwo( numberOfKeys ) : numberOfKeys;
 		final int maxBatchSize = getParameterCountLimit() / numberOfColumns;
@@ -4630,6 +4648,26 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * rows of a multi-row {@code insert ... values (...), (...)} statement
+	 * written with the native syntax. If the database does not support the
+	 * syntax, and multi-row inserts are emulated by the
+	 * {@linkplain #getSqlAstTranslatorFactory() translator}, or not supported
+	 * at all, return zero.
+	 *
+	 * @return The limit, a negative integer to indicate no limit, or zero to
+	 *         indicate that the native syntax is not supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public int getMultiRowInsertLimit() {
+		return supportsValuesListForInsert() ? -1 : 0;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -32,6 +32,7 @@
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.aggregate.AggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.pagination.LimitHandler;
@@ -1238,6 +1239,11 @@ public MultiKeyLoadSizingStrategy getBatchLoadSizingStrategy() {
 		return wrapped.getBatchLoadSizingStrategy();
 	}
 
+	@Override
+	public BulkInsertStrategy getBulkInsertStrategy(ServiceRegistry serviceRegistry) {
+		return wrapped.getBulkInsertStrategy( serviceRegistry );
+	}
+
 	@Override
 	public MultiKeyLoadSizingStrategy getMultiKeyLoadSizingStrategy() {
 		return wrapped.getMultiKeyLoadSizingStrategy();
@@ -1332,6 +1338,11 @@ public boolean supportsValuesListForInsert() {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return wrapped.getMultiRowInsertLimit();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
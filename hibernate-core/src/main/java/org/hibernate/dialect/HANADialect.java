@@ -1161,6 +1161,12 @@ public boolean supportsLateral() {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// multi-row inserts are emulated using a union of selects
+		return 0;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return true;
@@ -1102,6 +1102,12 @@ public boolean supportsValuesList() {
 		return getVersion().isSameOrAfter( 23 );
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// before 23, multi-row inserts are emulated using a union of selects
+		return getVersion().isSameOrAfter( 23 ) ? -1 : 0;
+	}
+
 	// features which remain constant across 8i, 9i, and 10g ~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -27,6 +27,7 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -164,6 +165,8 @@ protected void applyAggregateColumnCheck(StringBuilder buf, AggregateColumn aggr
 	protected final PostgreSQLDriverKind driverKind;
 	private final OptionalTableUpdateStrategy optionalTableUpdateStrategy;
 	private final ParameterMarkerStrategy parameterRenderer;
+	// resolved on first use, since it requires the service registry
+	private volatile BulkInsertStrategy bulkInsertStrategy;
 
 	public PostgreSQLDialect() {
 		this( MINIMUM_VERSION );
@@ -1111,6 +1114,22 @@ public IdentityColumnSupport getIdentityColumnSupport() {
 		return PostgreSQLIdentityColumnSupport.INSTANCE;
 	}
 
+	/**
+	 * Uses {@code copy ... from stdin} when the PostgreSQL JDBC driver is available.
+	 */
+	@Override
+	public BulkInsertStrategy getBulkInsertStrategy(ServiceRegistry serviceRegistry) {
+		BulkInsertStrategy strategy = bulkInsertStrategy;
+		if ( strategy == null ) {
+			// resolved reflectively, so only do it once
+			strategy = PgJdbcHelper.isUsable( serviceRegistry )
+					? PgJdbcHelper.getCopyBulkInsertStrategy( serviceRegistry )
+					: super.getBulkInsertStrategy( serviceRegistry );
+			bulkInsertStrategy = strategy;
+		}
+		return strategy;
+	}
+
 	@Override
 	public NationalizationSupport getNationalizationSupport() {
 		return NationalizationSupport.IMPLICIT;
@@ -204,6 +204,12 @@ public int getParameterCountLimit() {
 		return PARAM_COUNT_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// multi-row inserts are emulated using a union of selects
+		return 0;
+	}
+
 	@Override
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes(typeContributions, serviceRegistry);
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * Loads rows of a single table in bulk, using whatever mechanism is the
+ * most efficient for a certain {@linkplain org.hibernate.dialect.Dialect
+ * SQL dialect} and JDBC driver.
+ * <p>
+ * Used by {@link org.hibernate.StatelessSession#insertMultiple} when
+ * {@value org.hibernate.cfg.BatchSettings#STATELESS_BULK_INSERTS} is enabled.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertStrategy
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface BulkInsertStrategy {
+	/**
+	 * Insert the given rows into the given table.
+	 *
+	 * @param tableName The name of the table
+	 * @param columns The columns to which values are assigned
+	 * @param rows The rows to insert, each holding one JDBC value per column,
+	 * in the order of {@code columns}
+	 * @param session The originating session
+	 *
+	 * @throws org.hibernate.JDBCException if the rows could not be inserted
+	 */
+	void insertRows(String tableName, List<Column> columns, List<Object[]> rows, SharedSessionContractImplementor session);
+
+	/**
+	 * A column of the table, along with the {@link JdbcMapping} of its values.
+	 */
+	record Column(String name, JdbcMapping jdbcMapping) {
+	}
+}
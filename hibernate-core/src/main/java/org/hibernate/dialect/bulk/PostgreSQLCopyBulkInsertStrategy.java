@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * A {@link BulkInsertStrategy} for PostgreSQL which streams the rows to the
+ * server using {@code copy ... from stdin with (format binary)}, through the
+ * {@link org.postgresql.copy.CopyManager} of the PostgreSQL JDBC driver.
+ * <p>
+ * Each value is encoded directly in the binary format of the server according
+ * to the {@link org.hibernate.type.descriptor.jdbc.JdbcType} of its column, so
+ * no {@link java.sql.PreparedStatement} is involved. Note that the binary format
+ * requires the values to match the type of the column exactly: for example, a
+ * value mapped as {@link SqlTypes#INTEGER} can't be copied to a {@code bigint}
+ * column.
+ * <p>
+ * When a column has a type which can't be encoded, or the connection is not
+ * a PostgreSQL connection, the rows are inserted using the
+ * {@link StandardBulkInsertStrategy} instead.
+ *
+ * @since 7.0
+ */
+public class PostgreSQLCopyBulkInsertStrategy implements BulkInsertStrategy {
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+	private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+	// dates and timestamps are relative to 2000-01-01
+	private static final long EPOCH_DAY_OFFSET = LocalDate.of( 2000, 1, 1 ).toEpochDay();
+	private static final LocalDateTime LOCAL_EPOCH = LocalDateTime.of( 2000, 1, 1, 0, 0 );
+	private static final Instant EPOCH = LOCAL_EPOCH.toInstant( ZoneOffset.UTC );
+
+	private final BulkInsertStrategy fallback;
+
+	public PostgreSQLCopyBulkInsertStrategy() {
+		this( StandardBulkInsertStrategy.INSTANCE );
+	}
+
+	public PostgreSQLCopyBulkInsertStrategy(BulkInsertStrategy fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	public void insertRows(String tableName, List<Column> columns, List<Object[]> rows, SharedSessionContractImplementor session) {
+		if ( rows.isEmpty() ) {
+			return;
+		}
+
+		final ValueEncoder[] encoders = encoders( columns, session );
+		final String sql = copySql( tableName, columns );
+		try {
+			final Connection connection =
+					session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			if ( encoders == null || !connection.isWrapperFor( PGConnection.class ) ) {
+				fallback.insertRows( tableName, columns, rows, session );
+			}
+			else {
+				session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+				copy( connection.unwrap( PGConnection.class ), sql, encoders, rows, session );
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not execute bulk copy", sql );
+		}
+		finally {
+			session.getJdbcCoordinator().afterStatementExecution();
+		}
+	}
+
+	private static void copy(
+			PGConnection connection,
+			String sql,
+			ValueEncoder[] encoders,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) throws SQLException {
+		final CopyIn copyIn = connection.getCopyAPI().copyIn( sql );
+		try {
+			final CopyBuffer buffer = new CopyBuffer();
+			buffer.writeBytes( SIGNATURE );
+			// flags, then the length of the header extension area
+			buffer.writeInt( 0 );
+			buffer.writeInt( 0 );
+			for ( Object[] row : rows ) {
+				buffer.writeShort( encoders.length );
+				for ( int i = 0; i < encoders.length; i++ ) {
+					if ( row[i] == null ) {
+						buffer.writeInt( -1 );
+					}
+					else {
+						encoders[i].encode( row[i], buffer, session );
+					}
+				}
+				if ( buffer.size() >= FLUSH_THRESHOLD ) {
+					buffer.flushTo( copyIn );
+				}
+			}
+			// the file trailer
+			buffer.writeShort( -1 );
+			buffer.flushTo( copyIn );
+			copyIn.endCopy();
+		}
+		finally {
+			if ( copyIn.isActive() ) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private static String copySql(String tableName, List<Column> columns) {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( tableName ).append( " (" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columns.get( i ).name() );
+		}
+		return sql.append( ") from stdin with (format binary)" ).toString();
+	}
+
+	/**
+	 * @return the encoders, or {@code null} if the value of some column can't be encoded
+	 */
+	private static ValueEncoder[] encoders(List<Column> columns, WrapperOptions options) {
+		final ValueEncoder[] encoders = new ValueEncoder[columns.size()];
+		for ( int i = 0; i < encoders.length; i++ ) {
+			encoders[i] = encoder( columns.get( i ).jdbcMapping(), options );
+			if ( encoders[i] == null ) {
+				return null;
+			}
+		}
+		return encoders;
+	}
+
+	private static ValueEncoder encoder(JdbcMapping jdbcMapping, WrapperOptions options) {
+		//noinspection unchecked
+		final JavaType<Object> javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+		switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 1 );
+					buffer.writeByte( javaType.unwrap( value, Boolean.class, session ) ? 1 : 0 );
+				};
+			case SqlTypes.TINYINT:
+			case SqlTypes.SMALLINT:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 2 );
+					buffer.writeShort( javaType.unwrap( value, Short.class, session ) );
+				};
+			case SqlTypes.INTEGER:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 4 );
+					buffer.writeInt( javaType.unwrap( value, Integer.class, session ) );
+				};
+			case SqlTypes.BIGINT:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 8 );
+					buffer.writeLong( javaType.unwrap( value, Long.class, session ) );
+				};
+			case SqlTypes.REAL:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 4 );
+					buffer.writeInt( Float.floatToIntBits( javaType.unwrap( value, Float.class, session ) ) );
+				};
+			case SqlTypes.DOUBLE:
+				return (value, buffer, session) -> {
+					buffer.writeInt( 8 );
+					buffer.writeLong( Double.doubleToLongBits( javaType.unwrap( value, Double.class, session ) ) );
+				};
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+				return (value, buffer, session) ->
+						writeNumeric( javaType.unwrap( value, BigDecimal.class, session ), buffer );
+			case SqlTypes.CHAR:
+			case SqlTypes.VARCHAR:
+			case SqlTypes.LONGVARCHAR:
+			case SqlTypes.LONG32VARCHAR:
+			case SqlTypes.NCHAR:
+			case SqlTypes.NVARCHAR:
+			case SqlTypes.LONGNVARCHAR:
+			case SqlTypes.LONG32NVARCHAR:
+				// the driver always uses UTF8 as the client encoding
+				return (value, buffer, session) -> {
+					final byte[] bytes = javaType.unwrap( value, String.class, session ).getBytes( StandardCharsets.UTF_8 );
+					buffer.writeInt( bytes.length );
+					buffer.writeBytes( bytes );
+				};
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+				return (value, buffer, session) -> {
+					final byte[] bytes = javaType.unwrap( value, byte[].class, session );
+					buffer.writeInt( bytes.length );
+					buffer.writeBytes( bytes );
+				};
+			case SqlTypes.UUID:
+				return (value, buffer, session) -> {
+					final UUID uuid = javaType.unwrap( value, UUID.class, session );
+					buffer.writeInt( 16 );
+					buffer.writeLong( uuid.getMostSignificantBits() );
+					buffer.writeLong( uuid.getLeastSignificantBits() );
+				};
+			case SqlTypes.DATE:
+				// with a JDBC time zone, the binder would adjust the value
+				return options.getJdbcTimeZone() != null ? null : (value, buffer, session) -> {
+					final LocalDate date = javaType.unwrap( value, Date.class, session ).toLocalDate();
+					buffer.writeInt( 4 );
+					buffer.writeInt( Math.toIntExact( date.toEpochDay() - EPOCH_DAY_OFFSET ) );
+				};
+			case SqlTypes.TIMESTAMP:
+				return options.getJdbcTimeZone() != null ? null : (value, buffer, session) -> {
+					final LocalDateTime timestamp = javaType.unwrap( value, Timestamp.class, session ).toLocalDateTime();
+					buffer.writeInt( 8 );
+					buffer.writeLong( ChronoUnit.MICROS.between( LOCAL_EPOCH, timestamp ) );
+				};
+			case SqlTypes.TIMESTAMP_UTC:
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+				return (value, buffer, session) -> {
+					final Instant instant = javaType.unwrap( value, Instant.class, session );
+					buffer.writeInt( 8 );
+					buffer.writeLong( ChronoUnit.MICROS.between( EPOCH, instant ) );
+				};
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Write a value in the binary format of {@code numeric}, that is, as
+	 * a sequence of base-10000 digits along with the weight of the first
+	 * digit, the sign, and the display scale.
+	 */
+	private static void writeNumeric(BigDecimal value, CopyBuffer buffer) {
+		final int scale = Math.max( value.scale(), 0 );
+		final String digits = value.setScale( scale ).unscaledValue().abs().toString();
+		final int integerLength = digits.length() - scale;
+		String integerPart = integerLength > 0 ? digits.substring( 0, integerLength ) : "";
+		String fractionPart = integerLength > 0 ? digits.substring( integerLength ) : "0".repeat( -integerLength ) + digits;
+		// align both parts on groups of four decimal digits
+		integerPart = "0".repeat( ( 4 - integerPart.length() % 4 ) % 4 ) + integerPart;
+		fractionPart = fractionPart + "0".repeat( ( 4 - fractionPart.length() % 4 ) % 4 );
+		final String groups = integerPart + fractionPart;
+
+		int weight = integerPart.length() / 4 - 1;
+		int first = 0;
+		int last = groups.length() / 4;
+		while ( first < last && group( groups, first ) == 0 ) {
+			first++;
+			weight--;
+		}
+		while ( last > first && group( groups, last - 1 ) == 0 ) {
+			last--;
+		}
+		final int digitCount = last - first;
+
+		buffer.writeInt( 8 + 2 * digitCount );
+		buffer.writeShort( digitCount );
+		buffer.writeShort( digitCount == 0 ? 0 : weight );
+		buffer.writeShort( value.signum() < 0 ? 0x4000 : 0 );
+		buffer.writeShort( scale );
+		for ( int i = first; i < last; i++ ) {
+			buffer.writeShort( group( groups, i ) );
+		}
+	}
+
+	private static int group(String groups, int index) {
+		return Integer.parseInt( groups, index * 4, index * 4 + 4, 10 );
+	}
+
+	@FunctionalInterface
+	private interface ValueEncoder {
+		/**
+		 * Write the length of the given non-null value, followed by its binary representation.
+		 */
+		void encode(Object value, CopyBuffer buffer, WrapperOptions options);
+	}
+
+	/**
+	 * A growable buffer of big-endian values, periodically flushed to the {@link CopyIn}.
+	 */
+	private static final class CopyBuffer {
+		private byte[] bytes = new byte[FLUSH_THRESHOLD + 1024];
+		private int size;
+
+		int size() {
+			return size;
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			bytes[size++] = (byte) value;
+		}
+
+		void writeShort(int value) {
+			ensureCapacity( 2 );
+			bytes[size++] = (byte) ( value >>> 8 );
+			bytes[size++] = (byte) value;
+		}
+
+		void writeInt(int value) {
+			ensureCapacity( 4 );
+			bytes[size++] = (byte) ( value >>> 24 );
+			bytes[size++] = (byte) ( value >>> 16 );
+			bytes[size++] = (byte) ( value >>> 8 );
+			bytes[size++] = (byte) value;
+		}
+
+		void writeLong(long value) {
+			writeInt( (int) ( value >>> 32 ) );
+			writeInt( (int) value );
+		}
+
+		void writeBytes(byte[] value) {
+			ensureCapacity( value.length );
+			System.arraycopy( value, 0, bytes, size, value.length );
+			size += value.length;
+		}
+
+		void flushTo(CopyIn copyIn) throws SQLException {
+			if ( size > 0 ) {
+				copyIn.writeToCopy( bytes, 0, size );
+				size = 0;
+			}
+		}
+
+		private void ensureCapacity(int length) {
+			if ( size + length > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, size + length ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.type.descriptor.ValueBinder;
+
+/**
+ * The generic {@link BulkInsertStrategy}, which inserts the rows using
+ * a JDBC batch of {@code insert ... values (...)} statements, executed
+ * every {@linkplain SharedSessionContractImplementor#getConfiguredJdbcBatchSize
+ * batch size} rows.
+ *
+ * @since 7.0
+ */
+public class StandardBulkInsertStrategy implements BulkInsertStrategy {
+	/**
+	 * Singleton access
+	 */
+	public static final StandardBulkInsertStrategy INSTANCE = new StandardBulkInsertStrategy();
+
+	@Override
+	public void insertRows(String tableName, List<Column> columns, List<Object[]> rows, SharedSessionContractImplementor session) {
+		if ( rows.isEmpty() ) {
+			return;
+		}
+
+		final String sql = insertSql( tableName, columns );
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize == null || configuredBatchSize < 2
+				? rows.size()
+				: configuredBatchSize;
+
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			int batchPosition = 0;
+			for ( Object[] row : rows ) {
+				for ( int i = 0; i < columns.size(); i++ ) {
+					//noinspection unchecked
+					final ValueBinder<Object> binder =
+							(ValueBinder<Object>) columns.get( i ).jdbcMapping().getJdbcValueBinder();
+					binder.bind( statement, row[i], i + 1, session );
+				}
+				statement.addBatch();
+				if ( ++batchPosition == batchSize ) {
+					executeBatch( statement, sql, session );
+					batchPosition = 0;
+				}
+			}
+			if ( batchPosition > 0 ) {
+				executeBatch( statement, sql, session );
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not execute bulk insert", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static void executeBatch(PreparedStatement statement, String sql, SharedSessionContractImplementor session)
+			throws SQLException {
+		final JdbcEventHandler eventHandler = session.getJdbcSessionContext().getEventHandler();
+		final int[] rowCounts;
+		try {
+			eventHandler.jdbcExecuteBatchStart();
+			rowCounts = statement.executeBatch();
+		}
+		finally {
+			eventHandler.jdbcExecuteBatchEnd();
+		}
+		for ( int rowCount : rowCounts ) {
+			if ( rowCount != 1 && rowCount != Statement.SUCCESS_NO_INFO ) {
+				throw new StaleStateException(
+						"Unexpected row count (expected row count 1 but was " + rowCount + ") [" + sql + "]"
+				);
+			}
+		}
+	}
+
+	/**
+	 * The {@code insert} statement for a single row.
+	 */
+	protected String insertSql(String tableName, List<Column> columns) {
+		final StringBuilder sql = new StringBuilder( "insert into " ).append( tableName ).append( " (" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columns.get( i ).name() );
+		}
+		sql.append( ") values (" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( '?' );
+		}
+		return sql.append( ')' ).toString();
+	}
+}
@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Support for {@link org.hibernate.dialect.Dialect}-specific bulk loading of rows.
+ *
+ * @see org.hibernate.dialect.bulk.BulkInsertStrategy
+ */
+@Incubating
+package org.hibernate.dialect.bulk;
+
+import org.hibernate.Incubating;
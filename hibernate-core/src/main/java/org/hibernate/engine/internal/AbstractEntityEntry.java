@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.BitSet;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -28,6 +29,7 @@
 import org.hibernate.internal.util.ImmutableBitSet;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.TypeHelper;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -379,10 +381,10 @@ else if ( isHibernateProxy( entity ) ) {
 			}
 			// we never have to check an uninitialized proxy
 			return uninitializedProxy
-				|| !persister.hasCollections()
-					&& !persister.hasMutableProperties()
+				|| !persister.hasMutableProperties()
 					&& !asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes()
-					&& asManagedEntity( entity ).$$_hibernate_useTracker();
+					&& asManagedEntity( entity ).$$_hibernate_useTracker()
+					&& ( !persister.hasCollections() || hasLoadedCollections( entity ) );
 		}
 		else {
 			if ( isPersistentAttributeInterceptable( entity ) ) {
@@ -402,6 +404,28 @@ else if ( isHibernateProxy( entity ) ) {
 		}
 	}
 
+	/**
+	 * Does every collection-valued attribute of the given entity still refer
+	 * to the collection instance held by the loaded state? The enhanced dirty
+	 * tracker does not notice a collection being replaced by another of the
+	 * same size, but the elements of a collection which was not replaced are
+	 * dirty checked when the collection itself is flushed, so that there is no
+	 * need to compare the whole state of the entity.
+	 */
+	private boolean hasLoadedCollections(Object entity) {
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		if ( loadedState == null || entityMetamodel.hasComponentCollections() ) {
+			return false;
+		}
+		final BitSet collectionIndexes = entityMetamodel.getCollectionPropertiesIndexes();
+		for ( int i = collectionIndexes.nextSetBit( 0 ); i >= 0; i = collectionIndexes.nextSetBit( i + 1 ) ) {
+			if ( persister.getValue( entity, i ) != loadedState[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public boolean isModifiableEntity() {
 		final Status status = getStatus();
@@ -23,6 +23,7 @@
 import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
@@ -334,6 +335,24 @@ public Map.Entry<Object, EntityEntry>[] reentrantSafeEntityEntries() {
 		return reentrantSafeEntries;
 	}
 
+	/**
+	 * Determine whether the given predicate holds for every entity/{@link EntityEntry}
+	 * pair in this context, stopping at the first pair for which it does not. Unlike
+	 * {@link #reentrantSafeEntityEntries()}, nothing is copied, so the predicate must
+	 * not add or remove entries.
+	 */
+	public boolean allEntityEntriesMatch(BiPredicate<Object, EntityEntry> predicate) {
+		ManagedEntity managedEntity = head;
+		while ( managedEntity != null ) {
+			if ( !predicate.test( managedEntity.$$_hibernate_getEntityInstance(),
+					managedEntity.$$_hibernate_getEntityEntry() ) ) {
+				return false;
+			}
+			managedEntity = managedEntity.$$_hibernate_getNextManagedEntity();
+		}
+		return true;
+	}
+
 	private void processEachManagedEntity(final Consumer<ManagedEntity> action) {
 		ManagedEntity node = head;
 		while ( node != null ) {
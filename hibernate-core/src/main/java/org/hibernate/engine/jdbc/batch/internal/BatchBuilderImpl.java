@@ -28,6 +28,7 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,6 +37,20 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batched inserts should be rewritten
+	 * as multi-row inserts
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -44,6 +59,7 @@ public BatchBuilderImpl(int globalBatchSize) {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,7 +77,7 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator, multiRowInserts );
 	}
 
 
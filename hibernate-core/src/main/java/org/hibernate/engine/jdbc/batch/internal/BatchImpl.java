@@ -6,10 +6,13 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -25,6 +28,7 @@
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.type.descriptor.WrapperOptions;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -47,6 +51,12 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	// by table name, with a null value for a statement which can't be rewritten,
+	// or null if multi-row inserts are disabled
+	private final Map<String, MultiRowInsert> multiRowInserts;
+	private final int parameterCountLimit;
+	private final int rowCountLimit;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
@@ -56,6 +66,19 @@ public BatchImpl(
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, false );
+	}
+
+	/**
+	 * @param multiRowInserts whether the rows of plain {@code insert ... values (...)}
+	 * statements should be inserted using multi-row {@code insert} statements
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			boolean multiRowInserts) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -72,6 +95,22 @@ public BatchImpl(
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		final Dialect dialect = jdbcServices.getDialect();
+		// only when the database supports the syntax natively, we don't
+		// render the statements using the translator of the dialect
+		if ( multiRowInserts
+				&& dialect.getMultiRowInsertLimit() != 0
+				&& jdbcCoordinator.getJdbcSessionOwner() instanceof WrapperOptions ) {
+			this.multiRowInserts = new HashMap<>();
+			this.parameterCountLimit = dialect.getParameterCountLimit();
+			this.rowCountLimit = dialect.getMultiRowInsertLimit();
+		}
+		else {
+			this.multiRowInserts = null;
+			this.parameterCountLimit = 0;
+			this.rowCountLimit = 0;
+		}
+
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.createBatch(
 					batchSizeToUse,
@@ -131,6 +170,16 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 						);
 					}
 				}
+				else if ( multiRowInsert( tableName, statementDetails ) != null ) {
+					try {
+						multiRowInserts.get( tableName ).addRow(
+								jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() )
+						);
+					}
+					finally {
+						jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+					}
+				}
 				else {
 					//noinspection resource
 					final PreparedStatement statement = statementDetails.resolveStatement();
@@ -167,7 +216,29 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		}
 	}
 
+	private MultiRowInsert multiRowInsert(String tableName, PreparedStatementDetails statementDetails) {
+		if ( multiRowInserts == null ) {
+			return null;
+		}
+		else if ( multiRowInserts.containsKey( tableName ) ) {
+			return multiRowInserts.get( tableName );
+		}
+		else {
+			final MultiRowInsert multiRowInsert = MultiRowInsert.from( statementDetails, parameterCountLimit, rowCountLimit );
+			multiRowInserts.put( tableName, multiRowInsert );
+			return multiRowInsert;
+		}
+	}
+
 	protected void releaseStatements() {
+		if ( multiRowInserts != null ) {
+			for ( MultiRowInsert multiRowInsert : multiRowInserts.values() ) {
+				if ( multiRowInsert != null ) {
+					multiRowInsert.clear();
+				}
+			}
+		}
+
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -254,6 +325,20 @@ public void execute() {
 		}
 	}
 
+	/**
+	 * Execute the accumulated batch on each statement of the group, in order.
+	 * <p>
+	 * Execution deliberately happens on the flushing thread: the statements of
+	 * the next batch are bound against the same {@link java.sql.Connection},
+	 * which JDBC does not allow to be used concurrently, and the row counts of
+	 * this batch must be verified before any later mutation reaches the database,
+	 * so that a {@link StaleStateException} is reported against the right rows
+	 * and the transaction can be rolled back cleanly. To reduce the number of
+	 * round trips, raise the {@linkplain org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_SIZE
+	 * batch size} and enable {@linkplain org.hibernate.cfg.BatchSettings#ORDER_INSERTS
+	 * insert} and {@linkplain org.hibernate.cfg.BatchSettings#ORDER_UPDATES update}
+	 * ordering, so that fewer, larger batches are sent.
+	 */
 	protected void performExecution() {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.executeBatch(
@@ -269,7 +354,21 @@ protected void performExecution() {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
-				if ( statement != null ) {
+				final MultiRowInsert multiRowInsert = multiRowInserts == null ? null : multiRowInserts.get( tableName );
+				if ( multiRowInsert != null && multiRowInsert.hasRows() ) {
+					try {
+						multiRowInsert.execute( jdbcCoordinator, (WrapperOptions) jdbcSessionOwner );
+					}
+					catch (SQLException e) {
+						abortBatch( e );
+						throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+					}
+					catch (RuntimeException re) {
+						abortBatch( re );
+						throw re;
+					}
+				}
+				else if ( statement != null ) {
 					try {
 						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
 							final int[] rowCounts;
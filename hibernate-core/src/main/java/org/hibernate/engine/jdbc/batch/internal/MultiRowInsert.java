@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Accumulates the rows of a batched {@code insert ... values (...)} statement,
+ * and executes them as multi-row {@code insert ... values (...), (...)}
+ * statements, instead of relying on JDBC batching, which some drivers execute
+ * with one round trip per row.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ *
+ * @since 7.0
+ */
+class MultiRowInsert {
+	private static final String VALUES = " values ";
+
+	private final String prefix;
+	private final String tuple;
+	private final int parameterCount;
+	private final int maxRowsPerStatement;
+	private final boolean checkRowCount;
+
+	private final List<Binding[]> rows = new ArrayList<>();
+
+	private MultiRowInsert(
+			String prefix,
+			String tuple,
+			int parameterCount,
+			int maxRowsPerStatement,
+			boolean checkRowCount) {
+		this.prefix = prefix;
+		this.tuple = tuple;
+		this.parameterCount = parameterCount;
+		this.maxRowsPerStatement = maxRowsPerStatement;
+		this.checkRowCount = checkRowCount;
+	}
+
+	/**
+	 * Determine if the rows of the given statement can be inserted by multi-row statements.
+	 *
+	 * @param parameterCountLimit the maximum number of parameters of a statement,
+	 *        or a non-positive number if there is no limit
+	 * @param rowCountLimit the maximum number of rows of a statement,
+	 *        or a non-positive number if there is no limit
+	 *
+	 * @return the accumulator for the rows, or {@code null} if the statement is not
+	 *         a plain {@code insert ... values (...)}
+	 */
+	static MultiRowInsert from(PreparedStatementDetails statementDetails, int parameterCountLimit, int rowCountLimit) {
+		final Expectation expectation = statementDetails.getExpectation();
+		if ( statementDetails.isCallable()
+				|| expectation.getClass() != Expectation.RowCount.class
+						&& expectation.getClass() != Expectation.None.class ) {
+			return null;
+		}
+
+		final String sql = statementDetails.getSqlString();
+		final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+		final int valuesIndex = lowerCaseSql.lastIndexOf( VALUES );
+		if ( !lowerCaseSql.startsWith( "insert into " )
+				|| valuesIndex < 0
+				|| lowerCaseSql.contains( " select " )
+				|| lowerCaseSql.contains( " output " ) ) {
+			return null;
+		}
+
+		// the values must be a single tuple, with nothing following it
+		final String tuple = sql.substring( valuesIndex + VALUES.length() ).trim();
+		int parameterCount = 0;
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = 0; i < tuple.length(); i++ ) {
+			final char c = tuple.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+					if ( depth == 0 && i != tuple.length() - 1 ) {
+						return null;
+					}
+				}
+				else if ( c == '?' ) {
+					parameterCount++;
+				}
+				else if ( depth == 0 ) {
+					return null;
+				}
+			}
+		}
+		if ( depth != 0 || quoted || tuple.isEmpty() ) {
+			return null;
+		}
+
+		int maxRowsPerStatement = parameterCountLimit > 0 && parameterCount > 0
+				? Math.max( 1, parameterCountLimit / parameterCount )
+				: Integer.MAX_VALUE;
+		if ( rowCountLimit > 0 ) {
+			maxRowsPerStatement = Math.min( maxRowsPerStatement, rowCountLimit );
+		}
+		return new MultiRowInsert(
+				sql.substring( 0, valuesIndex + VALUES.length() ),
+				tuple,
+				parameterCount,
+				maxRowsPerStatement,
+				expectation.getClass() == Expectation.RowCount.class
+						&& statementDetails.getMutatingTableDetails().isIdentifierTable()
+		);
+	}
+
+	void addRow(BindingGroup bindingGroup) {
+		rows.add( bindingGroup == null ? new Binding[0] : bindingGroup.getBindings().toArray( new Binding[0] ) );
+	}
+
+	boolean hasRows() {
+		return !rows.isEmpty();
+	}
+
+	void clear() {
+		rows.clear();
+	}
+
+	/**
+	 * Insert the accumulated rows, in as few statements as the limits on the number
+	 * of parameters and rows allow.
+	 */
+	void execute(JdbcCoordinator jdbcCoordinator, WrapperOptions options) throws SQLException {
+		try {
+			final int rowCount = rows.size();
+			for ( int start = 0; start < rowCount; start += maxRowsPerStatement ) {
+				execute( start, Math.min( rowCount, start + maxRowsPerStatement ), jdbcCoordinator, options );
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void execute(int start, int end, JdbcCoordinator jdbcCoordinator, WrapperOptions options)
+			throws SQLException {
+		final String sql = sql( end - start );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			for ( int row = start; row < end; row++ ) {
+				final int offset = ( row - start ) * parameterCount;
+				for ( Binding binding : rows.get( row ) ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, options );
+				}
+			}
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( checkRowCount && rowCount != end - start ) {
+				throw new StaleStateException(
+						"Unexpected row count (expected row count " + ( end - start )
+								+ " but was " + rowCount + ") [" + sql + "]"
+				);
+			}
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private String sql(int rowCount) {
+		final StringBuilder sql = new StringBuilder( prefix.length() + ( tuple.length() + 1 ) * rowCount );
+		sql.append( prefix ).append( tuple );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ',' ).append( tuple );
+		}
+		return sql.toString();
+	}
+}
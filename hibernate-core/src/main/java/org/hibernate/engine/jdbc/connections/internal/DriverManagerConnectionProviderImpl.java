@@ -12,12 +12,16 @@
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -37,12 +41,20 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
 import org.hibernate.internal.log.ConnectionInfoLogger;
+import org.hibernate.stat.internal.LatencyHistogram;
 
 import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_URL;
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
  * a very rudimentary connection pool.
+ * <p>
+ * When the pool has reached its maximum size and no connection is available, a request for a
+ * connection waits up to {@value #ACQUISITION_TIMEOUT} milliseconds for one to be returned.
+ * The time taken to obtain connections is reported by
+ * {@link #getConnectionAcquisitionTimeAtPercentile(double)}, and connections which have been
+ * checked out for more than {@value #LEAK_DETECTION_THRESHOLD} seconds are reported as possible
+ * leaks each time the pool is validated.
  *
  * @implNote Not intended for use in production systems!
  *
@@ -60,6 +72,10 @@
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS, 0 to fail immediately when the pool is exhausted
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS, 0 to disable
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -89,6 +105,8 @@ private PooledConnections buildPool(Map<String,Object> configurationValues, Serv
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 0 );
+		final long leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -98,6 +116,8 @@ private PooledConnections buildPool(Map<String,Object> configurationValues, Serv
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
+		pooledConnectionBuilder.leakDetectionThreshold( leakDetectionThreshold );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -300,6 +320,18 @@ protected int getOpenConnections() {
 		return state.pool.allConnections.size() - state.pool.availableConnections.size();
 	}
 
+	/**
+	 * Estimate the time, in microseconds, it took to obtain a connection
+	 * from the pool, including any time spent waiting for a connection to
+	 * be returned, for the given percentage of the calls to
+	 * {@link #getConnection()}.
+	 *
+	 * @param percentile a value between 0 and 100, for example {@code 99}
+	 */
+	public long getConnectionAcquisitionTimeAtPercentile(double percentile) {
+		return state.pool.acquisitionTimes.getValueAtPercentile( percentile );
+	}
+
 	protected void validateConnectionsReturned() {
 		int allocationCount = getOpenConnections();
 		if ( allocationCount != 0 ) {
@@ -354,11 +386,25 @@ public static class PooledConnections {
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
 
+		// only taken when no connection is available, never when a connection is returned
+		// unless a thread is waiting; unlike a monitor, it doesn't pin a virtual thread
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition connectionAvailable = lock.newCondition();
+		private final AtomicInteger waiting = new AtomicInteger();
+		// the number of connections being created by acquire(), guarded by lock
+		private int reserved;
+
+		// the time each checked out connection was obtained, if leak detection is enabled
+		private final ConcurrentHashMap<Connection, Long> checkedOutConnections = new ConcurrentHashMap<>();
+		private final LatencyHistogram acquisitionTimes = new LatencyHistogram();
+
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -372,6 +418,8 @@ private PooledConnections(
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = TimeUnit.MILLISECONDS.toNanos( builder.acquisitionTimeout );
+			leakDetectionThreshold = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
 			addConnections( builder.initialSize );
 		}
 
@@ -395,12 +443,50 @@ else if ( size > maxSize ) {
 				ConnectionInfoLogger.INSTANCE.debugf( "Removing %s Connections from the pool", numberToBeRemoved );
 				removeConnections( numberToBeRemoved );
 			}
+
+			if ( leakDetectionThreshold > 0 ) {
+				detectLeaks();
+			}
+		}
+
+		private void detectLeaks() {
+			final long now = System.nanoTime();
+			int leaked = 0;
+			for ( Long checkedOut : checkedOutConnections.values() ) {
+				if ( now - checkedOut > leakDetectionThreshold ) {
+					leaked++;
+				}
+			}
+			if ( leaked > 0 ) {
+				ConnectionInfoLogger.INSTANCE.warnf(
+						"Possible connection leak detected: %s connections have been checked out for more than %s seconds",
+						leaked,
+						TimeUnit.NANOSECONDS.toSeconds( leakDetectionThreshold )
+				);
+			}
 		}
 
 		public void add(Connection conn) throws SQLException {
+			checkedOutConnections.remove( conn );
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
 				availableConnections.offer( connection );
+				signalWaiting();
+			}
+		}
+
+		private void signalWaiting() {
+			// a waiting thread increments the count before it looks
+			// for a connection, so it either finds the connection or
+			// is already waiting by the time we acquire the lock
+			if ( waiting.get() > 0 ) {
+				lock.lock();
+				try {
+					connectionAvailable.signal();
+				}
+				finally {
+					lock.unlock();
+				}
 			}
 		}
 
@@ -422,24 +508,79 @@ protected Connection releaseConnection(Connection conn) {
 		}
 
 		public Connection poll() throws SQLException {
+			final long start = System.nanoTime();
 			Connection conn;
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
-					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+					conn = acquire( start );
 				}
 				conn = prepareConnection( conn );
 			} while ( conn == null );
+			final long now = System.nanoTime();
+			acquisitionTimes.record( TimeUnit.NANOSECONDS.toMicros( now - start ) );
+			if ( leakDetectionThreshold > 0 ) {
+				checkedOutConnections.put( conn, now );
+			}
 			return conn;
 		}
 
+		private Connection acquire(long start) {
+			lock.lock();
+			waiting.incrementAndGet();
+			try {
+				long remaining = acquisitionTimeout - ( System.nanoTime() - start );
+				while ( true ) {
+					final Connection available = availableConnections.poll();
+					if ( available != null ) {
+						return available;
+					}
+					if ( allConnections.size() + reserved < maxSize ) {
+						// reserve the slot, and open the connection without holding the lock
+						reserved++;
+						break;
+					}
+					if ( remaining <= 0 ) {
+						throw new HibernateException(
+								"The internal connection pool has reached its maximum size and no connection is currently available" );
+					}
+					remaining = connectionAvailable.awaitNanos( remaining );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			finally {
+				waiting.decrementAndGet();
+				lock.unlock();
+			}
+			return createReserved();
+		}
+
+		private Connection createReserved() {
+			boolean created = false;
+			try {
+				final Connection connection = connectionCreator.createConnection();
+				allConnections.add( connection );
+				created = true;
+				return connection;
+			}
+			finally {
+				lock.lock();
+				try {
+					reserved--;
+					if ( !created ) {
+						// the slot is free again
+						connectionAvailable.signal();
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -468,6 +609,9 @@ protected void closeConnection(Connection conn, Throwable t) {
 			}
 			finally {
 				allConnections.remove( conn );
+				checkedOutConnections.remove( conn );
+				// there is room for a new connection
+				signalWaiting();
 			}
 		}
 
@@ -523,6 +667,8 @@ public static class Builder {
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -544,6 +690,16 @@ public Builder maxSize(int maxSize) {
 				return this;
 			}
 
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -8,12 +8,12 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -1094,13 +1094,15 @@ private TransactionCompletionProcesses(
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * The algorithm first discovers the direct dependencies of every insert action, counting for each insert the
+	 * number of inserts which must be executed before it, and groups all inserts by the entity name.
+	 * It then repeatedly picks a group, preferring a group all of whose inserts have no pending dependencies, and
+	 * schedules every insert of the group which is ready, releasing the inserts which depend on it. Since every
+	 * insert and every dependency is visited a bounded number of times, the cost is linear in the number of
+	 * inserts and dependencies.
 	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * If at some point no insert is ready, the remaining inserts depend on each other circularly. In this case, the
+	 * pending insert that comes first in the original order is scheduled anyway.
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
 		/**
@@ -1110,17 +1112,16 @@ private static class InsertActionSorter implements ExecutableList.Sorter<Abstrac
 
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
+			// Inserts which must be executed after this insert
+			private @Nullable List<InsertInfo> dependents;
+			// The number of inserts which must be executed before this insert, and are not yet scheduled
+			private int unscheduledDependencies;
+			private boolean scheduled;
+			private final EntityInsertGroup group;
+
+			public InsertInfo(AbstractEntityInsertAction insertAction, EntityInsertGroup group) {
 				this.insertAction = insertAction;
-				this.index = index;
+				this.group = group;
 			}
 
 			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
@@ -1131,35 +1132,16 @@ public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertIn
 				}
 			}
 
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
+			/**
+			 * Record that the given insert must be executed after this insert.
+			 */
+			private void addDependent(InsertInfo dependent) {
+				if ( dependent != this ) {
+					if ( dependents == null ) {
+						dependents = new ArrayList<>();
 					}
+					dependents.add( dependent );
+					dependent.unscheduledDependencies++;
 				}
 			}
 
@@ -1173,17 +1155,11 @@ private void addDirectDependency(Type type, @Nullable Object value, IdentityHash
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								addDependent( insertInfo );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							insertInfo.addDependent( this );
 						}
 					}
 				}
@@ -1202,10 +1178,7 @@ else if ( type instanceof CollectionType collectionType ) {
 							final Object element = elementsIterator.next();
 							final InsertInfo insertInfo = insertInfosByEntity.get( element );
 							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+								addDependent( insertInfo );
 							}
 						}
 					}
@@ -1222,24 +1195,6 @@ else if ( type instanceof ComponentType compositeType ) {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
 			@Override
 			public String toString() {
 				return "InsertInfo{" +
@@ -1261,10 +1216,20 @@ public void sort(List<AbstractEntityInsertAction> insertions) {
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
 			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
+			// The insert groups keyed by entity name, kept in the order in which the entity names first appear
+			final Map<String, EntityInsertGroup> insertGroupsByEntityName = new HashMap<>();
+			final List<EntityInsertGroup> insertGroups = new ArrayList<>();
 			// Construct insert infos and build a map for that, keyed by entity instance
 			for (int i = 0; i < insertInfoCount; i++) {
 				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
+				final String entityName = insertAction.getPersister().getEntityName();
+				EntityInsertGroup insertGroup = insertGroupsByEntityName.get(entityName);
+				if (insertGroup == null) {
+					insertGroup = new EntityInsertGroup(entityName);
+					insertGroupsByEntityName.put(entityName, insertGroup);
+					insertGroups.add(insertGroup);
+				}
+				final InsertInfo insertInfo = new InsertInfo(insertAction, insertGroup);
 				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
 				insertInfos[i] = insertInfo;
 			}
@@ -1272,117 +1237,96 @@ public void sort(List<AbstractEntityInsertAction> insertions) {
 			for (int i = 0; i < insertInfoCount; i++) {
 				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
 			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
+			// Then we can add the insert infos to their groups, which need to know which ones are ready
 			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
+				insertInfos[i].group.add(insertInfos[i]);
 			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
+			// Now we schedule the ready inserts group by group, until all inserts are scheduled
+			insertions.clear();
+			boolean circular = false;
+			// Inserts before this index in the original order are all scheduled
+			int firstUnscheduledIndex = 0;
+			while (insertions.size() < insertInfoCount) {
+				final EntityInsertGroup insertGroup = nextGroup(insertGroups);
+				if (insertGroup == null) {
+					// No insert is ready, so the remaining inserts have circular dependencies:
+					// we break the cycle by scheduling the first remaining one in the original order
+					while (insertInfos[firstUnscheduledIndex].scheduled) {
+						firstUnscheduledIndex++;
 					}
+					final InsertInfo insertInfo = insertInfos[firstUnscheduledIndex];
+					insertInfo.unscheduledDependencies = 0;
+					insertInfo.group.ready.add(insertInfo);
+					circular = true;
+				}
+				else {
+					insertGroup.schedule(insertions);
 				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
+			}
+			if ( circular ) {
 				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
 					"This might indicate a circular entity relationship.");
 			}
-			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
 		}
 
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
-			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+		/**
+		 * The group to schedule next: the first group all of whose remaining inserts are ready,
+		 * so that it is scheduled in one batch, or else the first group with any ready inserts.
+		 */
+		private static @Nullable EntityInsertGroup nextGroup(List<EntityInsertGroup> insertGroups) {
+			EntityInsertGroup partiallyReadyGroup = null;
+			for (int i = 0; i < insertGroups.size(); i++) {
+				final EntityInsertGroup insertGroup = insertGroups.get(i);
+				final int readyCount = insertGroup.ready.size();
+				if (readyCount > 0) {
+					if (readyCount == insertGroup.unscheduled) {
+						return insertGroup;
+					}
+					else if (partiallyReadyGroup == null) {
+						partiallyReadyGroup = insertGroup;
+					}
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+			return partiallyReadyGroup;
 		}
 
 		public static class EntityInsertGroup {
 			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+			// The inserts of this group which have no unscheduled dependencies
+			private final ArrayDeque<InsertInfo> ready = new ArrayDeque<>();
+			// The number of inserts of this group which are not yet scheduled
+			private int unscheduled;
 
 			public EntityInsertGroup(String entityName) {
 				this.entityName = entityName;
 			}
 
 			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
+				unscheduled++;
+				if (insertInfo.unscheduledDependencies == 0) {
+					ready.add(insertInfo);
+				}
+			}
+
+			/**
+			 * Schedule all the ready inserts of this group, including those of its inserts
+			 * which become ready in the process, since they directly follow their dependencies.
+			 */
+			private void schedule(List<AbstractEntityInsertAction> insertions) {
+				InsertInfo insertInfo;
+				while ((insertInfo = ready.poll()) != null) {
+					if (insertInfo.scheduled) {
+						continue;
+					}
+					insertInfo.scheduled = true;
+					unscheduled--;
+					insertions.add(insertInfo.insertAction);
+					if (insertInfo.dependents != null) {
+						for (InsertInfo dependent : insertInfo.dependents) {
+							if (--dependent.unscheduledDependencies == 0 && !dependent.scheduled) {
+								dependent.group.ready.add(dependent);
+							}
+						}
 					}
 				}
 			}
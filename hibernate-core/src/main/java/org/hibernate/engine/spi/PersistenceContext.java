@@ -8,6 +8,7 @@
 import java.util.Iterator;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -535,6 +536,44 @@ EntityHolder claimEntityHolderIfPossible(
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Determine whether the given predicate holds for every entity/EntityEntry combo
+	 * associated with the persistence context, stopping at the first one for which it
+	 * does not. Unlike {@link #reentrantSafeEntityEntries()}, implementations need not
+	 * copy the entries, so the predicate must not add or remove entities.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean allEntityEntriesMatch(BiPredicate<Object,EntityEntry> predicate) {
+		for ( Map.Entry<Object,EntityEntry> entry : reentrantSafeEntityEntries() ) {
+			if ( !predicate.test( entry.getKey(), entry.getValue() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determine whether the given predicate holds for every collection entry of the
+	 * persistence context, stopping at the first one for which it does not. Implementations
+	 * need not copy the entries, so the predicate must not add or remove collections.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean allCollectionEntriesMatch(BiPredicate<PersistentCollection<?>,CollectionEntry> predicate) {
+		final Map<PersistentCollection<?>,CollectionEntry> collectionEntries = getCollectionEntries();
+		if ( collectionEntries != null ) {
+			for ( Map.Entry<PersistentCollection<?>,CollectionEntry> entry : collectionEntries.entrySet() ) {
+				if ( !predicate.test( entry.getKey(), entry.getValue() ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 //	/**
 //	 * Get the mapping from entity instance to entity entry
 //	 *
@@ -4,23 +4,33 @@
  */
 package org.hibernate.event.internal;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.FastSessionServices;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
 import java.lang.invoke.MethodHandles;
 
+import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
 /**
  * Defines the default flush event listeners used by hibernate for
  * flushing session state in response to generated auto-flush events.
@@ -119,6 +129,71 @@ private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
 			&& ( persistenceContext.getNumberOfManagedEntities() > 0
-				|| persistenceContext.getCollectionEntriesSize() > 0 );
+				|| persistenceContext.getCollectionEntriesSize() > 0 )
+			&& !isUnchanged( source, persistenceContext );
+	}
+
+	/**
+	 * Can we tell, without cascading to and dirty checking the whole persistence
+	 * context, that flushing it would not produce any action? This is the case
+	 * when nothing is queued, every entity tracks its own dirtiness and reports
+	 * no change, and no collection was modified. Since custom listeners might
+	 * produce actions even then, they disable this shortcut.
+	 */
+	private static boolean isUnchanged(EventSource source, PersistenceContext persistenceContext) {
+		return source.getHibernateFlushMode() == FlushMode.AUTO
+			&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+			&& !hasCustomEventListeners( source )
+			&& !source.getActionQueue().hasAnyQueuedActions()
+			// stops at the first entity or collection which might have changed
+			&& persistenceContext.allEntityEntriesMatch( DefaultAutoFlushEventListener::isUnchangedEntity )
+			&& persistenceContext.allCollectionEntriesMatch( DefaultAutoFlushEventListener::isUnchanged );
+	}
+
+	private static boolean hasCustomEventListeners(EventSource source) {
+		final FastSessionServices fss = source.getFactory().getFastSessionServices();
+		return !hasOnlyListener( fss.eventListenerGroup_FLUSH_ENTITY, DefaultFlushEntityEventListener.class )
+			|| !hasOnlyListener( fss.eventListenerGroup_PERSIST_ONFLUSH, DefaultPersistOnFlushEventListener.class );
+	}
+
+	private static boolean hasOnlyListener(EventListenerGroup<?> group, Class<?> listenerClass) {
+		return group.count() == 1
+			&& group.listeners().iterator().next().getClass() == listenerClass;
+	}
+
+	private static boolean isUnchangedEntity(Object entity, EntityEntry entry) {
+		return switch ( entry.getStatus() ) {
+			case MANAGED, READ_ONLY -> isUnchanged( entity, entry );
+			case LOADING, GONE -> true;
+			default -> false;
+		};
+	}
+
+	private static boolean isUnchanged(Object entity, EntityEntry entry) {
+		if ( !isSelfDirtinessTracker( entity ) ) {
+			return false;
+		}
+		else if ( entry.isModifiableEntity() ) {
+			return !entry.requiresDirtyCheck( entity );
+		}
+		else {
+			// the associations of a read-only entity are still cascaded to
+			return !entry.getPersister().hasCollections()
+				&& !asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes();
+		}
+	}
+
+	/**
+	 * A collection is unchanged unless it was written to, or has elements which
+	 * might have been modified in place, and which must be compared to the snapshot.
+	 *
+	 * @see CollectionEntry#preFlush
+	 */
+	private static boolean isUnchanged(PersistentCollection<?> collection, CollectionEntry entry) {
+		final CollectionPersister loadedPersister = entry.getLoadedPersister();
+		return loadedPersister != null
+			&& !collection.isDirty()
+			&& ( !collection.wasInitialized()
+				|| !collection.isDirectlyAccessible() && !loadedPersister.getElementType().isMutable() );
 	}
 }
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.EntityTableMapping;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+/**
+ * The table of an entity whose rows are loaded by a {@link BulkInsertStrategy},
+ * along with the decomposition of the state of the entity into the JDBC values
+ * of the columns of the table.
+ *
+ * @see StatelessSessionImpl#insertMultiple
+ *
+ * @since 7.0
+ */
+final class BulkInsertTarget {
+	private final EntityPersister persister;
+	private final EntityTableMapping tableMapping;
+	private final List<BulkInsertStrategy.Column> columns;
+	private final Map<String, Integer> columnIndexes;
+
+	private BulkInsertTarget(
+			EntityPersister persister,
+			EntityTableMapping tableMapping,
+			List<BulkInsertStrategy.Column> columns,
+			Map<String, Integer> columnIndexes) {
+		this.persister = persister;
+		this.tableMapping = tableMapping;
+		this.columns = columns;
+		this.columnIndexes = columnIndexes;
+	}
+
+	/**
+	 * @return the target, or {@code null} if the entity can't be inserted in bulk,
+	 *         since its insert is anything but a single {@code insert} statement
+	 *         binding the state of the entity
+	 */
+	static BulkInsertTarget from(EntityPersister persister) {
+		if ( persister.getTableSpan() != 1
+				|| persister.isIdentifierAssignedByInsert()
+				|| persister.hasInsertGeneratedProperties()
+				|| persister.getEntityMetamodel().isDynamicInsert()
+				|| persister.getDiscriminatorMapping() != null
+				|| persister.getSoftDeleteMapping() != null ) {
+			return null;
+		}
+
+		final MutationOperationGroup insertGroup = persister.getInsertCoordinator().getStaticMutationOperationGroup();
+		if ( insertGroup == null
+				|| insertGroup.getNumberOfOperations() != 1
+				|| !( insertGroup.getSingleOperation() instanceof JdbcMutationOperation operation )
+				|| operation.isCallable()
+				|| !( operation.getTableDetails() instanceof EntityTableMapping tableMapping )
+				|| tableMapping.getInsertCustomSql() != null
+				|| hasCustomWriteExpression( persister, tableMapping ) ) {
+			return null;
+		}
+
+		final List<JdbcParameterBinder> parameterBinders = operation.getParameterBinders();
+		final List<BulkInsertStrategy.Column> columns = new ArrayList<>( parameterBinders.size() );
+		final Map<String, Integer> columnIndexes = new HashMap<>();
+		for ( JdbcParameterBinder parameterBinder : parameterBinders ) {
+			if ( !( parameterBinder instanceof ColumnValueParameter parameter ) ) {
+				return null;
+			}
+			final String columnName = parameter.getColumnReference().getColumnExpression();
+			columnIndexes.put( columnName, columns.size() );
+			columns.add( new BulkInsertStrategy.Column( columnName, parameter.getJdbcMapping() ) );
+		}
+		return new BulkInsertTarget( persister, tableMapping, columns, columnIndexes );
+	}
+
+	private static boolean hasCustomWriteExpression(EntityPersister persister, EntityTableMapping tableMapping) {
+		final List<String> customWriteColumns = new ArrayList<>();
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int attributeIndex : tableMapping.getAttributeIndexes() ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( attributeIndex );
+			if ( !( attributeMapping instanceof PluralAttributeMapping ) ) {
+				attributeMapping.forEachSelectable( (selectionIndex, selectableMapping) -> {
+					if ( selectableMapping.isInsertable() && selectableMapping.getCustomWriteExpression() != null ) {
+						customWriteColumns.add( selectableMapping.getSelectionExpression() );
+					}
+				} );
+			}
+		}
+		return !customWriteColumns.isEmpty();
+	}
+
+	String getTableName() {
+		return tableMapping.getTableName();
+	}
+
+	List<BulkInsertStrategy.Column> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Decompose the identifier and state of an entity into the JDBC values of the row.
+	 */
+	Object[] row(Object id, Object[] state, SharedSessionContractImplementor session) {
+		final Object[] row = new Object[columns.size()];
+		final boolean[] insertability = persister.getPropertyInsertability();
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int attributeIndex : tableMapping.getAttributeIndexes() ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( attributeIndex );
+			if ( insertability[attributeIndex] && !( attributeMapping instanceof PluralAttributeMapping ) ) {
+				attributeMapping.decompose(
+						state[attributeIndex],
+						0,
+						row,
+						columnIndexes,
+						(valueIndex, values, indexes, jdbcValue, selectableMapping) -> {
+							if ( selectableMapping.isInsertable() ) {
+								final Integer index = indexes.get( selectableMapping.getSelectionExpression() );
+								if ( index != null ) {
+									values[index] = jdbcValue;
+								}
+							}
+						},
+						session
+				);
+			}
+		}
+		tableMapping.getKeyMapping().breakDownKeyJdbcValues(
+				id,
+				(jdbcValue, columnMapping) -> row[columnIndexes.get( columnMapping.getColumnName() )] = jdbcValue,
+				session
+		);
+		return row;
+	}
+}
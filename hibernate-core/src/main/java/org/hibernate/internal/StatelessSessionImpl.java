@@ -122,6 +122,33 @@ public Object insert(Object entity) {
 
 	@Override
 	public void insertMultiple(List<Object> entities) {
+		if ( getFactory().getSessionFactoryOptions().isStatelessBulkInsertsEnabled() ) {
+			checkOpen();
+			// insert consecutive entities of the same type together,
+			// preserving the order in which the rows are inserted
+			int start = 0;
+			while ( start < entities.size() ) {
+				final EntityPersister persister = getEntityPersister( null, entities.get( start ) );
+				int end = start + 1;
+				while ( end < entities.size() && getEntityPersister( null, entities.get( end ) ) == persister ) {
+					end++;
+				}
+				final BulkInsertTarget target = BulkInsertTarget.from( persister );
+				if ( target == null ) {
+					batchInsert( entities.subList( start, end ) );
+				}
+				else {
+					bulkInsert( persister, target, entities.subList( start, end ) );
+				}
+				start = end;
+			}
+		}
+		else {
+			batchInsert( entities );
+		}
+	}
+
+	private void batchInsert(List<Object> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
@@ -134,6 +161,86 @@ public void insertMultiple(List<Object> entities) {
 		}
 	}
 
+	private void bulkInsert(EntityPersister persister, BulkInsertTarget target, List<Object> entities) {
+		final Generator generator = persister.getGenerator();
+		final List<Object> insertedEntities = new ArrayList<>( entities.size() );
+		final List<Object> ids = new ArrayList<>( entities.size() );
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		final List<Object[]> rows = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object[] state = persister.getValues( entity );
+			if ( persister.isVersioned() ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			final Object id;
+			if ( generator.generatedBeforeExecution( entity, this ) ) {
+				if ( !generator.generatesOnInsert() ) {
+					throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
+				}
+				id = ( (BeforeExecutionGenerator) generator ).generate( this, entity, null, INSERT );
+			}
+			else {
+				id = persister.getIdentifier( entity, this );
+				if ( id == null ) {
+					throw new IdentifierGenerationException( "Identifier of entity '" + persister.getEntityName() + "' must be manually assigned before calling 'insert()'" );
+				}
+			}
+			if ( !firePreInsert( entity, id, state, persister ) ) {
+				getInterceptor().onInsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
+				generateValuesBeforeInsert( persister, entity, state );
+				insertedEntities.add( entity );
+				ids.add( id );
+				states.add( state );
+				rows.add( target.row( id, state, this ) );
+			}
+		}
+
+		// rows still queued in a JDBC batch, for example the parents
+		// of these entities, must be inserted before the bulk load
+		getJdbcCoordinator().executeBatch();
+		getJdbcServices().getDialect().getBulkInsertStrategy( getFactory().getServiceRegistry() )
+				.insertRows( target.getTableName(), target.getColumns(), rows, this );
+
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		for ( int i = 0; i < insertedEntities.size(); i++ ) {
+			final Object entity = insertedEntities.get( i );
+			final Object id = ids.get( i );
+			persister.setIdentifier( entity, id, this );
+			forEachOwnedCollection( entity, id, persister,
+					(descriptor, collection) -> {
+						descriptor.recreate( collection, id, this);
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.recreateCollection( descriptor.getRole() );
+						}
+					} );
+			firePostInsert( entity, id, states.get( i ), persister );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.insertEntity( persister.getEntityName() );
+			}
+		}
+	}
+
+	/**
+	 * Generate the values which the insert coordinator would generate in memory.
+	 */
+	private void generateValuesBeforeInsert(EntityPersister persister, Object entity, Object[] state) {
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		if ( entityMetamodel.hasPreInsertGeneratedValues() ) {
+			final Generator[] generators = entityMetamodel.getGenerators();
+			for ( int i = 0; i < generators.length; i++ ) {
+				final Generator generator = generators[i];
+				if ( generator != null
+						&& generator.generatesOnInsert()
+						&& generator.generatedBeforeExecution( entity, this ) ) {
+					state[i] = ( (BeforeExecutionGenerator) generator ).generate( this, entity, state[i], INSERT );
+					persister.setPropertyValue( entity, i, state[i] );
+				}
+			}
+		}
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
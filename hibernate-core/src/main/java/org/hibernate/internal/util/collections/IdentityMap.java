@@ -11,6 +11,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
 /**
@@ -69,6 +70,19 @@ public void forEach(BiConsumer<? super K, ? super V> action) {
 		map.forEach( (k,v) -> action.accept( k.key, v ) );
 	}
 
+	/**
+	 * Determine whether the given predicate holds for every entry, without copying
+	 * the entries, and stopping at the first entry for which it does not.
+	 */
+	public boolean allMatch(BiPredicate<? super K, ? super V> predicate) {
+		for ( Entry<IdentityKey<K>, V> entry : map.entrySet() ) {
+			if ( !predicate.test( entry.getKey().key, entry.getValue() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public Iterator<K> keyIterator() {
 		return new KeyIterator<>( map.keySet().iterator() );
 	}
@@ -0,0 +1,408 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} based on open addressing with linear probing.
+ * <p>
+ * Keys and values are stored next to each other in a single array,
+ * so that, unlike {@link java.util.HashMap}, no node object is
+ * allocated per entry and a lookup usually touches a single cache
+ * line. This makes it a good fit for the large, short-lived maps held
+ * by the persistence context, whose keys cache their own hash code.
+ * <p>
+ * Removed entries leave a tombstone behind, which is purged when the
+ * table is next rehashed, so that removal through an iterator never
+ * moves any other entry. {@code null} keys are not supported, while
+ * {@code null} values are. This map is not thread-safe.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final Object TOMBSTONE = new Object();
+
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	// the golden ratio, as used for Fibonacci hashing
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	// keys at even indexes, each followed by its value
+	private Object[] table;
+	private int shift;
+	private int threshold;
+	private int size;
+	private int tombstones;
+	private int modCount;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should be able to hold without being resized
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor, tombstones included, at or below 2/3
+		final long minimum = Math.max( MINIMUM_CAPACITY, (long) expectedSize * 3 / 2 + 1 );
+		if ( minimum >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) minimum - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity << 1];
+		shift = Integer.numberOfLeadingZeros( capacity ) + 1;
+		threshold = capacity == MAXIMUM_CAPACITY ? capacity - 1 : capacity / 3 * 2;
+		tombstones = 0;
+	}
+
+	private int indexFor(Object key) {
+		return ( ( key.hashCode() * HASH_MULTIPLIER ) >>> shift ) << 1;
+	}
+
+	private int indexOf(Object key) {
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int index = indexFor( key );
+		Object candidate;
+		while ( ( candidate = tab[index] ) != null ) {
+			if ( candidate == key || candidate != TOMBSTONE && key.equals( candidate ) ) {
+				return index;
+			}
+			index = ( index + 2 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf( key ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) table[index + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "Null keys are not supported" );
+		}
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int index = indexFor( key );
+		int firstTombstone = -1;
+		Object candidate;
+		while ( ( candidate = tab[index] ) != null ) {
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( candidate == key || key.equals( candidate ) ) {
+				// replacing the value of an existing key never rehashes,
+				// so that it is safe to do while iterating
+				final V previous = (V) tab[index + 1];
+				tab[index + 1] = value;
+				return previous;
+			}
+			index = ( index + 2 ) & mask;
+		}
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+			tombstones--;
+		}
+		else if ( size + tombstones >= threshold ) {
+			rehash();
+			index = freeIndexFor( key );
+		}
+		table[index] = key;
+		table[index + 1] = value;
+		size++;
+		modCount++;
+		return null;
+	}
+
+	private int freeIndexFor(Object key) {
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int index = indexFor( key );
+		while ( tab[index] != null ) {
+			index = ( index + 2 ) & mask;
+		}
+		return index;
+	}
+
+	private void rehash() {
+		final Object[] oldTable = table;
+		final int capacity = oldTable.length >> 1;
+		// if most of the used slots are tombstones, just purge them
+		final int newCapacity = size < threshold / 2 || capacity == MAXIMUM_CAPACITY ? capacity : capacity << 1;
+		if ( newCapacity == MAXIMUM_CAPACITY && size >= threshold ) {
+			throw new IllegalStateException( "Capacity exhausted" );
+		}
+		allocate( newCapacity );
+		modCount++;
+		final Object[] tab = table;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null && key != TOMBSTONE ) {
+				final int index = freeIndexFor( key );
+				tab[index] = key;
+				tab[index + 1] = oldTable[i + 1];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = (V) table[index + 1];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		tab[index + 1] = null;
+		size--;
+		modCount++;
+		if ( tab[( index + 2 ) & mask] == null ) {
+			// the end of a probe sequence: no tombstone is needed here,
+			// nor in the run of tombstones directly preceding this slot
+			tab[index] = null;
+			index = ( index - 2 ) & mask;
+			while ( tab[index] == TOMBSTONE ) {
+				tab[index] = null;
+				tombstones--;
+				index = ( index - 2 ) & mask;
+			}
+		}
+		else {
+			tab[index] = TOMBSTONE;
+			tombstones++;
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || tombstones > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+			tombstones = 0;
+			modCount++;
+		}
+	}
+
+	/**
+	 * Override Map{@link #forEach(BiConsumer)} to avoid the allocation of entries
+	 * @param action the operation to apply to each element
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] tab = table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null && key != TOMBSTONE ) {
+				action.accept( (K) key, (V) tab[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(int index) {
+						return (K) table[index];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public void clear() {
+				OpenAddressingHashMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(int index) {
+						return (V) table[index + 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				OpenAddressingHashMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Map.Entry<K, V>> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					Map.Entry<K, V> element(int index) {
+						return new WriteThroughEntry( (K) table[index], (V) table[index + 1] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				OpenAddressingHashMap.this.clear();
+			}
+		};
+	}
+
+	private final class WriteThroughEntry extends SimpleEntry<K, V> {
+		private WriteThroughEntry(K key, V value) {
+			super( key, value );
+		}
+
+		@Override
+		public V setValue(V value) {
+			// replacing the value of an existing key never alters the structure of the table
+			put( getKey(), value );
+			return super.setValue( value );
+		}
+	}
+
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private int next = -2;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			final Object[] tab = table;
+			int index = next + 2;
+			while ( index < tab.length && ( tab[index] == null || tab[index] == TOMBSTONE ) ) {
+				index += 2;
+			}
+			return index < tab.length;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final Object[] tab = table;
+			int index = next + 2;
+			while ( index < tab.length && ( tab[index] == null || tab[index] == TOMBSTONE ) ) {
+				index += 2;
+			}
+			if ( index >= tab.length ) {
+				throw new NoSuchElementException();
+			}
+			next = index;
+			last = index;
+			return element( index );
+		}
+
+		@Override
+		public void remove() {
+			if ( last < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( last );
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
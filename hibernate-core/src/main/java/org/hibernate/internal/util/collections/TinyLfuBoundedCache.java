@@ -0,0 +1,363 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded cache using a simplified W-TinyLFU policy.
+ * <p>
+ * Newly added entries first enter a small FIFO <em>admission window</em>.
+ * When an entry leaves the window it is admitted to the <em>main</em>
+ * space only if it has been requested more often than a victim sampled
+ * from the main space, as estimated by a count-min {@linkplain FrequencySketch
+ * frequency sketch} which is periodically aged. This keeps the hit rate
+ * high when the access pattern shifts, and protects frequently used
+ * entries from being flushed out by a burst of one-off requests.
+ * <p>
+ * Retrievals never block: they read a {@link ConcurrentHashMap} and
+ * record the access in the sketch using single compare-and-set attempts,
+ * dropping the increment under contention. Only additions, which happen
+ * on cache misses, acquire a lock to maintain the eviction structures.
+ * <p>
+ * Null keys and values are not supported. The views returned by
+ * {@link #entrySet()}, {@link #keySet()} and {@link #values()} are
+ * read-only.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class TinyLfuBoundedCache<K, V> extends AbstractMap<K, V> {
+
+	// the number of entries of the main space compared when looking for a victim
+	private static final int SAMPLE_SIZE = 8;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final FrequencySketch sketch;
+	private final int windowMaximumSize;
+	private final int mainMaximumSize;
+	private final Consumer<K> evictionListener;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	// guarded by evictionLock
+	private final ArrayDeque<Node<K, V>> window;
+	private final ArrayList<Node<K, V>> main;
+
+	/**
+	 * @param maximumSize The maximum number of entries
+	 * @param evictionListener Notified of the key of every evicted entry
+	 */
+	public TinyLfuBoundedCache(int maximumSize, Consumer<K> evictionListener) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.windowMaximumSize = Math.max( 1, maximumSize / 100 );
+		this.mainMaximumSize = maximumSize - windowMaximumSize;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.window = new ArrayDeque<>( windowMaximumSize + 1 );
+		this.main = new ArrayList<>( Math.min( mainMaximumSize, 1 << 16 ) );
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		sketch.increment( key.hashCode() );
+		final Node<K, V> node = data.get( key );
+		return node == null ? null : node.value;
+	}
+
+	/**
+	 * Return the cached value, or compute, cache and return it.
+	 * The computation is not atomic: if several threads miss
+	 * concurrently, the value may be computed more than once.
+	 */
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final V value = mappingFunction.apply( key );
+		if ( value != null ) {
+			put( key, value );
+		}
+		return value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		evictionLock.lock();
+		try {
+			final Node<K, V> replaced = data.put( key, node );
+			if ( replaced != null ) {
+				unlink( replaced );
+			}
+			window.addLast( node );
+			node.inWindow = true;
+			while ( window.size() > windowMaximumSize ) {
+				final Node<K, V> candidate = window.pollFirst();
+				candidate.inWindow = false;
+				admit( candidate );
+			}
+			return replaced == null ? null : replaced.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> removed = data.remove( key );
+			if ( removed == null ) {
+				return null;
+			}
+			unlink( removed );
+			return removed.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.get( key );
+			if ( node == null || !node.value.equals( value ) ) {
+				return false;
+			}
+			data.remove( key );
+			unlink( node );
+			return true;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				final Iterator<Node<K, V>> nodes = data.values().iterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return nodes.hasNext();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						final Node<K, V> node = nodes.next();
+						return new SimpleImmutableEntry<>( node.key, node.value );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return data.size();
+			}
+		};
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			main.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void admit(Node<K, V> candidate) {
+		if ( main.size() < mainMaximumSize ) {
+			addToMain( candidate );
+			return;
+		}
+		final Node<K, V> victim = sampleVictim();
+		if ( victim != null
+				&& sketch.frequency( candidate.key.hashCode() ) > sketch.frequency( victim.key.hashCode() ) ) {
+			evict( victim );
+			addToMain( candidate );
+		}
+		else {
+			evict( candidate );
+		}
+	}
+
+	private Node<K, V> sampleVictim() {
+		final int size = main.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		Node<K, V> victim = null;
+		int victimFrequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < Math.min( SAMPLE_SIZE, size ); i++ ) {
+			final Node<K, V> sampled = main.get( random.nextInt( size ) );
+			final int frequency = sketch.frequency( sampled.key.hashCode() );
+			if ( frequency < victimFrequency ) {
+				victim = sampled;
+				victimFrequency = frequency;
+			}
+		}
+		return victim;
+	}
+
+	private void addToMain(Node<K, V> node) {
+		node.mainIndex = main.size();
+		main.add( node );
+	}
+
+	private void unlink(Node<K, V> node) {
+		if ( node.inWindow ) {
+			window.remove( node );
+			node.inWindow = false;
+		}
+		else if ( node.mainIndex >= 0 ) {
+			// swap with the last element, so that removal is O(1)
+			final Node<K, V> last = main.remove( main.size() - 1 );
+			if ( last != node ) {
+				main.set( node.mainIndex, last );
+				last.mainIndex = node.mainIndex;
+			}
+			node.mainIndex = -1;
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		// guarded by evictionLock
+		private boolean inWindow;
+		private int mainIndex = -1;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters, packed sixteen to a {@code long},
+	 * estimating how often each key was requested. Once the number of recorded
+	 * requests reaches ten times the maximum size of the cache, all counters
+	 * are halved, so that the history of the cache fades over time.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		// the fraction of increments counted towards the aging sample, to avoid contending on the counter
+		private static final int SAMPLE_SHIFT = 4;
+
+		private final AtomicLongArray table;
+		private final int tableMask;
+		private final int sampleSize;
+		private final AtomicInteger sampled = new AtomicInteger();
+
+		FrequencySketch(int maximumSize) {
+			final int length = Integer.highestOneBit( Math.max( 16, Math.min( maximumSize, 1 << 24 ) ) - 1 ) << 1;
+			this.table = new AtomicLongArray( length );
+			this.tableMask = length - 1;
+			this.sampleSize = Math.max( 1, ( 10 * maximumSize ) >>> SAMPLE_SHIFT );
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+
+		private int indexOf(int hash, int row) {
+			long h = ( hash + SEEDS[row] ) * SEEDS[row];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		int frequency(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int row = 0; row < 4; row++ ) {
+				final long word = table.get( indexOf( hash, row ) );
+				final int count = (int) ( ( word >>> ( ( start + row ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int row = 0; row < 4; row++ ) {
+				added |= tryIncrement( indexOf( hash, row ), start + row );
+			}
+			if ( added
+					&& ThreadLocalRandom.current().nextInt( 1 << SAMPLE_SHIFT ) == 0
+					&& sampled.incrementAndGet() == sampleSize ) {
+				age();
+			}
+		}
+
+		private boolean tryIncrement(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			final long word = table.get( index );
+			// a single attempt: under contention the increment is simply lost
+			return ( word & mask ) != mask && table.compareAndSet( index, word, word + ( 1L << offset ) );
+		}
+
+		private void age() {
+			for ( int i = 0; i < table.length(); i++ ) {
+				table.getAndUpdate( i, word -> ( word >>> 1 ) & RESET_MASK );
+			}
+			sampled.set( 0 );
+		}
+	}
+}
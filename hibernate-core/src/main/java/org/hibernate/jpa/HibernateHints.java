@@ -61,6 +61,26 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that entities returned by a
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultStream
+	 * result stream} should be evicted from the persistence context
+	 * as soon as the stream moves past the row they were returned in,
+	 * so that memory use stays flat however many rows are streamed.
+	 * If no {@linkplain #HINT_FETCH_SIZE fetch size} is specified,
+	 * neither for the query nor {@linkplain
+	 * org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE globally},
+	 * a moderate fetch size is applied to the statement.
+	 * <p>
+	 * An entity which occurs in several rows is loaded again for every
+	 * row, as a distinct instance.
+	 *
+	 * @see org.hibernate.Session#evict
+	 *
+	 * @since 7.0
+	 */
+	String HINT_DETACH_STREAMED_RESULTS = "org.hibernate.detachStreamedResults";
+
 	/**
 	 * Hint for specifying whether results from a query should be
 	 * stored in the query cache.
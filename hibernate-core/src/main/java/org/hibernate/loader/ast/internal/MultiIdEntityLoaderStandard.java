@@ -5,11 +5,14 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -21,6 +24,7 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
@@ -33,6 +37,7 @@
 import static org.hibernate.engine.spi.SubselectFetch.createRegistrationHandler;
 import static org.hibernate.loader.ast.internal.LoaderSelectBuilder.createSelect;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
 
 /**
  * Standard MultiIdEntityLoader
@@ -41,8 +46,14 @@
  */
 public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<T> {
 
+	// the number of distinct chunk sizes for which the load plan is kept
+	private static final int MAX_CACHED_CHUNK_LOAD_PLANS = 32;
+
 	private final int idJdbcTypeCount;
 
+	// load plans by chunk size, for loads not affected by locking or by any influencer
+	private final ConcurrentHashMap<Integer, ChunkLoadPlan> chunkLoadPlans = new ConcurrentHashMap<>();
+
 	public MultiIdEntityLoaderStandard(
 			EntityPersister entityDescriptor,
 			int idColumnSpan,
@@ -130,23 +141,10 @@ private List<T> performRegularMultiLoad(
 					getLoadable().getEntityName(), numberOfIdsInBatch );
 		}
 
-		final JdbcParametersList.Builder jdbcParametersBuilder =
-				JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
-
-		final SelectStatement sqlAst = createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParametersBuilder::add,
-				getSessionFactory()
-		);
-
-		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+		final ChunkLoadPlan loadPlan =
+				resolveChunkLoadPlan( numberOfIdsInBatch, lockOptions, session.getLoadQueryInfluencers() );
+		final SelectStatement sqlAst = loadPlan.sqlAst();
+		final JdbcParametersList jdbcParameters = loadPlan.jdbcParameters();
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = 0;
 		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
@@ -162,8 +160,7 @@ private List<T> performRegularMultiLoad(
 		assert offset == jdbcParameters.size();
 
 		return getJdbcSelectExecutor().list(
-				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
-						.translate( jdbcParameterBindings, QueryOptions.NONE ),
+				loadPlan.jdbcSelect(),
 				jdbcParameterBindings,
 				new ExecutionContextWithSubselectFetchHandler(
 						session,
@@ -177,6 +174,69 @@ private List<T> performRegularMultiLoad(
 		);
 	}
 
+	private ChunkLoadPlan resolveChunkLoadPlan(
+			int numberOfIdsInBatch,
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( isLoadPlanReusable( lockOptions, loadQueryInfluencers ) ) {
+			final ChunkLoadPlan existing = chunkLoadPlans.get( numberOfIdsInBatch );
+			if ( existing != null ) {
+				return existing;
+			}
+			else {
+				final ChunkLoadPlan plan = createChunkLoadPlan( numberOfIdsInBatch, lockOptions, loadQueryInfluencers );
+				if ( chunkLoadPlans.size() < MAX_CACHED_CHUNK_LOAD_PLANS ) {
+					chunkLoadPlans.putIfAbsent( numberOfIdsInBatch, plan );
+				}
+				return plan;
+			}
+		}
+		else {
+			return createChunkLoadPlan( numberOfIdsInBatch, lockOptions, loadQueryInfluencers );
+		}
+	}
+
+	private boolean isLoadPlanReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
+		return lockOptions.getLockMode() == LockMode.NONE
+			&& lockOptions.getTimeOut() == LockOptions.WAIT_FOREVER
+			&& getLoadable().isNotAffectedByInfluencers( loadQueryInfluencers );
+	}
+
+	private ChunkLoadPlan createChunkLoadPlan(
+			int numberOfIdsInBatch,
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		final JdbcParametersList.Builder jdbcParametersBuilder =
+				JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
+
+		final SelectStatement sqlAst = createSelect(
+				getLoadable(),
+				// null here means to select everything
+				null,
+				getLoadable().getIdentifierMapping(),
+				null,
+				numberOfIdsInBatch,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcParametersBuilder::add,
+				getSessionFactory()
+		);
+
+		final JdbcOperationQuerySelect jdbcSelect =
+				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
+						.translate( NO_BINDINGS, QueryOptions.NONE );
+		return new ChunkLoadPlan( sqlAst, jdbcParametersBuilder.build(), jdbcSelect );
+	}
+
+	/**
+	 * The SQL AST and JDBC operation loading a chunk of a certain number of ids
+	 */
+	private record ChunkLoadPlan(
+			SelectStatement sqlAst,
+			JdbcParametersList jdbcParameters,
+			JdbcOperationQuerySelect jdbcSelect) {
+	}
+
 	private SubselectFetch.RegistrationHandler fetchableKeysHandler(
 			EventSource session,
 			SelectStatement sqlAst,
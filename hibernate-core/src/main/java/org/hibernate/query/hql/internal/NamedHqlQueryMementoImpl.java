@@ -13,6 +13,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.AbstractNamedQueryMemento;
+import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.SqmSelectionQuery;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
@@ -41,6 +42,8 @@
 	private final LockOptions lockOptions;
 	private final Map<String, String> parameterTypes;
 
+	private transient volatile @Nullable HqlInterpretation<?> pinnedInterpretation;
+
 	public NamedHqlQueryMementoImpl(
 			String name,
 			@Nullable Class<R> resultType,
@@ -103,6 +106,18 @@ public Map<String, String> getParameterTypes() {
 		return parameterTypes;
 	}
 
+	/**
+	 * The interpretation of the HQL resolved during startup, if
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PIN_NAMED_INTERPRETATIONS pinned}.
+	 */
+	public @Nullable HqlInterpretation<?> getPinnedInterpretation() {
+		return pinnedInterpretation;
+	}
+
+	public void pinInterpretation(HqlInterpretation<?> interpretation) {
+		this.pinnedInterpretation = interpretation;
+	}
+
 	@Override
 	public NamedSqmQueryMemento<R> makeCopy(String name) {
 		return new NamedHqlQueryMementoImpl<>(
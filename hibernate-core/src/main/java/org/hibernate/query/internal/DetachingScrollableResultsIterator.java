@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the entities
+ * returned in a row from the persistence context when it moves
+ * on to the next row.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS
+ *
+ * @since 7.0
+ */
+public class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SharedSessionContractImplementor session;
+	private Object lastRow;
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SharedSessionContractImplementor session) {
+		super( scrollableResults );
+		this.session = session;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( lastRow != null ) {
+			// the caller is done with the previous row
+			detach( lastRow );
+			lastRow = null;
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T row = super.next();
+		lastRow = row;
+		return row;
+	}
+
+	private void detach(Object row) {
+		if ( row instanceof Object[] elements ) {
+			for ( Object element : elements ) {
+				detachElement( element );
+			}
+		}
+		else if ( row instanceof Tuple tuple ) {
+			for ( Object element : tuple.toArray() ) {
+				detachElement( element );
+			}
+		}
+		else {
+			detachElement( row );
+		}
+	}
+
+	private void detachElement(Object element) {
+		if ( element != null && !session.isClosed() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			if ( element instanceof HibernateProxy || persistenceContext.isEntryFor( element ) ) {
+				session.asEventSource().evict( element );
+			}
+		}
+	}
+}
@@ -4,8 +4,16 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -21,11 +29,12 @@
 import org.hibernate.query.NamedQueryValidationException;
 import org.hibernate.query.sqm.PathElementException;
 import org.hibernate.query.sqm.TerminalPathException;
+import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
+import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.UnknownEntityException;
 import org.hibernate.query.sqm.UnknownPathException;
@@ -232,7 +241,29 @@ public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetam
 
 	@Override
 	public void validateNamedQueries(QueryEngine queryEngine) {
-		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine );
+		validateNamedQueries( queryEngine, 1 );
+	}
+
+	@Override
+	public void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		throwIfErrors( checkNamedQueries( queryEngine, parallelism ) );
+	}
+
+	@Override
+	public void pinNamedQueryInterpretations(QueryEngine queryEngine) {
+		final Map<String, HibernateException> errors = new HashMap<>();
+		for ( NamedSqmQueryMemento<?> sqmMemento : sqmMementoMap.values() ) {
+			if ( sqmMemento instanceof NamedHqlQueryMementoImpl<?> hqlMemento ) {
+				final HqlInterpretation<?> interpretation = checkNamedHqlQuery( hqlMemento, queryEngine, errors );
+				if ( interpretation != null ) {
+					hqlMemento.pinInterpretation( interpretation );
+				}
+			}
+		}
+		throwIfErrors( errors );
+	}
+
+	private static void throwIfErrors(Map<String, HibernateException> errors) {
 		if ( !errors.isEmpty() ) {
 			int i = 0;
 			final StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -251,31 +282,26 @@ public void validateNamedQueries(QueryEngine queryEngine) {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, 1 );
+	}
 
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+	/**
+	 * Perform a validity check on all named queries, interpreting up to
+	 * {@code parallelism} named HQL queries concurrently.
+	 */
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		final Map<String,HibernateException> errors;
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		if ( parallelism > 1 && sqmMementoMap.size() > 1 ) {
+			errors = new ConcurrentHashMap<>();
+			checkNamedHqlQueriesConcurrently( queryEngine, parallelism, errors );
+		}
+		else {
+			errors = new HashMap<>();
+			for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
 			}
 		}
 
@@ -317,6 +343,85 @@ public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine
 		return errors;
 	}
 
+	private void checkNamedHqlQueriesConcurrently(
+			QueryEngine queryEngine,
+			int parallelism,
+			Map<String, HibernateException> errors) {
+		// HQL interpretation is safe to run concurrently, as it is at runtime,
+		// and the interpretations end up in the (concurrent) interpretation cache
+		final List<Callable<Void>> checks = new ArrayList<>( sqmMementoMap.size() );
+		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+			checks.add( () -> {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
+				return null;
+			} );
+		}
+		final ForkJoinPool pool = new ForkJoinPool( parallelism, checkingThreadFactory(), null, false );
+		try {
+			for ( Future<Void> check : pool.invokeAll( checks ) ) {
+				check.get();
+			}
+		}
+		catch ( ExecutionException e ) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( cause instanceof Error error ) {
+				throw error;
+			}
+			throw new HibernateException( "Unable to check named HQL queries", cause );
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named HQL queries", e );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Worker threads inherit the context class loader of the bootstrapping
+	 * thread, through which entity, converter and function classes may have
+	 * to be resolved during interpretation.
+	 */
+	private static ForkJoinPool.ForkJoinWorkerThreadFactory checkingThreadFactory() {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return pool -> {
+			final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+			thread.setName( "hibernate-named-query-check-" + thread.getPoolIndex() );
+			thread.setContextClassLoader( contextClassLoader );
+			return thread;
+		};
+	}
+
+	private static HqlInterpretation<?> checkNamedHqlQuery(
+			NamedSqmQueryMemento<?> hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			return queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+		}
+		catch ( QueryException e ) {
+			errors.put( registrationName, e );
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+		}
+		catch ( EntityTypeException e ) {
+			errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+		return null;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
@@ -13,6 +13,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.BindingContext;
 import org.hibernate.query.hql.HqlTranslator;
@@ -202,7 +203,22 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final String eviction = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_PLAN_CACHE_EVICTION,
+					properties,
+					"lirs"
+			);
+			if ( "tinylfu".equalsIgnoreCase( eviction ) ) {
+				return new QueryInterpretationCacheStandardImpl( size, serviceRegistry,
+						QueryInterpretationCacheStandardImpl.BoundedMapFactory.TINY_LFU );
+			}
+			else if ( "lirs".equalsIgnoreCase( eviction ) ) {
+				return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			}
+			else {
+				throw new ConfigurationException( "Unrecognized value for '"
+						+ AvailableSettings.QUERY_PLAN_CACHE_EVICTION + "': " + eviction );
+			}
 		}
 		else {
 			// disabled
@@ -215,6 +231,11 @@ public void validateNamedQueries() {
 		namedObjectRepository.validateNamedQueries( this );
 	}
 
+	@Override
+	public void validateNamedQueries(int parallelism) {
+		namedObjectRepository.validateNamedQueries( this, parallelism );
+	}
+
 	@Override
 	public NamedObjectRepository getNamedObjectRepository() {
 		return namedObjectRepository;
@@ -4,11 +4,13 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuBoundedCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -27,7 +29,8 @@
 import org.jboss.logging.Logger;
 
 /**
- * Standard QueryInterpretationCache implementation
+ * Standard QueryInterpretationCache implementation, backed by bounded
+ * maps obtained from a {@link BoundedMapFactory}.
  *
  * @author Steve Ebersole
  */
@@ -37,20 +40,27 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final Map<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final Map<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final Map<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, serviceRegistry, BoundedMapFactory.LIRS );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			ServiceRegistry serviceRegistry,
+			BoundedMapFactory mapFactory) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = mapFactory.createMap( maxQueryPlanCount, this::queryPlanEvicted );
+		this.hqlInterpretationCache = mapFactory.createMap( maxQueryPlanCount, null );
+		this.nativeQueryParamCache = mapFactory.createMap( maxQueryPlanCount, null );
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -71,6 +81,13 @@ private StatisticsImplementor getStatistics() {
 		return statistics;
 	}
 
+	private void queryPlanEvicted() {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
+	}
+
 	@Override
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			Key key,
@@ -200,6 +217,44 @@ public void close() {
 		queryPlanCache.clear();
 	}
 
+	/**
+	 * Creates the bounded maps backing the cache.
+	 *
+	 * @since 7.0
+	 */
+	public interface BoundedMapFactory {
+		/**
+		 * Segmented maps with LIRS eviction, whose evictions are not reported.
+		 */
+		BoundedMapFactory LIRS = new BoundedMapFactory() {
+			@Override
+			public <K, V> Map<K, V> createMap(int maximumSize, Runnable evictionListener) {
+				return new BoundedConcurrentHashMap<>( maximumSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+			}
+		};
+
+		/**
+		 * Maps with TinyLFU admission, whose retrievals never block.
+		 *
+		 * @see TinyLfuBoundedCache
+		 */
+		BoundedMapFactory TINY_LFU = new BoundedMapFactory() {
+			@Override
+			public <K, V> Map<K, V> createMap(int maximumSize, Runnable evictionListener) {
+				return new TinyLfuBoundedCache<>(
+						maximumSize,
+						evictionListener == null ? null : key -> evictionListener.run()
+				);
+			}
+		};
+
+		/**
+		 * @param maximumSize The maximum number of entries
+		 * @param evictionListener Notified of evictions, if supported, or {@code null}
+		 */
+		<K, V> Map<K, V> createMap(int maximumSize, Runnable evictionListener);
+	}
+
 	private static final class HqlInterpretationCacheKey {
 		private final String queryString;
 		private final Class<?> expectedResultType;
@@ -78,6 +78,23 @@ public interface NamedObjectRepository {
 	 */
 	void validateNamedQueries(QueryEngine queryEngine);
 
+	/**
+	 * Validate the named queries and throw an exception if any are broken,
+	 * checking up to {@code parallelism} queries concurrently
+	 */
+	default void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		validateNamedQueries( queryEngine );
+	}
+
+	/**
+	 * Resolve the interpretation of every named HQL query, and keep it
+	 * with the named query for the lifetime of the factory.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PIN_NAMED_INTERPRETATIONS
+	 */
+	default void pinNamedQueryInterpretations(QueryEngine queryEngine) {
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
@@ -63,6 +63,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -299,6 +300,9 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 				case HINT_FETCH_SIZE:
 					queryOptions.setFetchSize( getInteger( value ) );
 					return true;
+				case HINT_DETACH_STREAMED_RESULTS:
+					applyDetachStreamedResultsHint( getBoolean( value ) );
+					return true;
 				case HINT_QUERY_PLAN_CACHEABLE:
 					queryOptions.setQueryPlanCachingEnabled( getBoolean( value ) );
 					return true;
@@ -346,6 +350,10 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 		}
 	}
 
+	protected void applyDetachStreamedResultsHint(boolean detach) {
+		QueryLogging.QUERY_LOGGER.debug( "Detach streamed results hint was specified for non-selection query; ignoring" );
+	}
+
 	protected void applyEntityGraphHint(String hintName, Object value) {
 		final GraphSemantic graphSemantic = GraphSemantic.fromHintName( hintName );
 		if ( value instanceof RootGraphImplementor<?> rootGraphImplementor ) {
@@ -534,6 +542,14 @@ public MutableQueryOptions getQueryOptions() {
 		return queryOptions;
 	}
 
+	/**
+	 * Unset the {@linkplain QueryOptions#getFetchSize() fetch size},
+	 * so that the JDBC driver default applies again.
+	 */
+	protected void clearFetchSize() {
+		queryOptions.setFetchSize( (Integer) null );
+	}
+
 	@Override
 	public Integer getTimeout() {
 		return getQueryOptions().getTimeout();
@@ -36,6 +36,7 @@
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
@@ -59,6 +60,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
@@ -74,8 +76,13 @@
 	 */
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
+	// the fetch size applied to a detaching stream if none was specified
+	private static final int DEFAULT_DETACHED_STREAM_FETCH_SIZE = 256;
+
 	private Callback callback;
 
+	private boolean detachStreamedResults;
+
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
 	}
@@ -84,6 +91,7 @@ protected AbstractSelectionQuery(AbstractSelectionQuery<?> original) {
 		super( original );
 		this.sessionFlushMode = original.sessionFlushMode;
 		this.sessionCacheMode = original.sessionCacheMode;
+		this.detachStreamedResults = original.detachStreamedResults;
 	}
 
 	protected void applyOptions(NamedQueryMemento<?> memento) {
@@ -246,6 +254,11 @@ public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	@Override
+	protected void applyDetachStreamedResultsHint(boolean detach) {
+		this.detachStreamedResults = detach;
+	}
+
 	@Override
 	public Stream<R> getResultStream() {
 		return stream();
@@ -254,8 +267,26 @@ public Stream<R> getResultStream() {
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final boolean detaching = detachStreamedResults && !getSession().isStatelessSession();
+		// the default fetch size only applies to this execution of the query
+		final boolean defaultFetchSize = detaching
+				&& getQueryOptions().getFetchSize() == null
+				&& getSessionFactory().getSessionFactoryOptions().getJdbcFetchSize() == null;
+		if ( defaultFetchSize ) {
+			getQueryOptions().setFetchSize( DEFAULT_DETACHED_STREAM_FETCH_SIZE );
+		}
+		final ScrollableResultsImplementor scrollableResults;
+		try {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+		finally {
+			if ( defaultFetchSize ) {
+				clearFetchSize();
+			}
+		}
+		final ScrollableResultsIterator iterator = detaching
+				? new DetachingScrollableResultsIterator<>( scrollableResults, getSession() )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -457,6 +488,10 @@ protected void collectHints(Map<String, Object> hints) {
 
 		putIfNotNull( hints, HINT_FETCH_SIZE, getFetchSize() );
 
+		if ( detachStreamedResults ) {
+			hints.put( HINT_DETACH_STREAMED_RESULTS, true );
+		}
+
 		if ( isCacheable() ) {
 			hints.put( HINT_CACHEABLE, true );
 			putIfNotNull( hints, HINT_CACHE_REGION, getCacheRegion() );
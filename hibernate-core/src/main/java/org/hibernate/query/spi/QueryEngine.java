@@ -42,6 +42,16 @@ public interface QueryEngine {
 
 	void validateNamedQueries();
 
+	/**
+	 * Validate the named queries, interpreting up to the given number of
+	 * queries concurrently.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default void validateNamedQueries(int parallelism) {
+		validateNamedQueries();
+	}
+
 	NamedObjectRepository getNamedObjectRepository();
 
 	HqlTranslator getHqlTranslator();
@@ -34,6 +34,7 @@
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
 
@@ -384,6 +385,15 @@ protected static <T> HqlInterpretation<T> interpretation(
 			NamedHqlQueryMementoImpl<?> memento,
 			Class<T> expectedResultType,
 			SharedSessionContractImplementor session) {
+		final HqlInterpretation<?> pinnedInterpretation = memento.getPinnedInterpretation();
+		if ( pinnedInterpretation != null ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( memento.getHqlString() );
+			}
+			//noinspection unchecked
+			return (HqlInterpretation<T>) pinnedInterpretation;
+		}
 		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
 		return queryEngine.getInterpretationCache()
 				.resolveHqlInterpretation( memento.getHqlString(), expectedResultType,
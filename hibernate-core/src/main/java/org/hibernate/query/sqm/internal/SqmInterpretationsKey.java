@@ -12,6 +12,7 @@
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -32,6 +33,7 @@ public interface CacheabilityInfluencers {
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
 		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
+		SharedSessionContractImplementor getSession();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
@@ -39,10 +41,8 @@ public interface InterpretationsKeySource extends CacheabilityInfluencers {
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
-		if ( isCacheable ( keySource ) ) {
-			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
-					: keySource.getQueryString();
+		final Object query = isCacheable( keySource ) ? query( keySource ) : null;
+		if ( query != null ) {
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -58,6 +58,27 @@ public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeyS
 		}
 	}
 
+	private static Object query(InterpretationsKeySource keySource) {
+		if ( !CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			return keySource.isQueryPlanCacheable() ? keySource.getQueryString() : null;
+		}
+		else if ( keySource.isQueryPlanCacheable() ) {
+			// the user opted in, or the query shares the tree of the
+			// criteria query, which is assumed to be immutable
+			return keySource.getSqmStatement();
+		}
+		else if ( keySource.getQueryOptions().getQueryPlanCachingEnabled() == null
+				&& keySource.getSession().isCriteriaCopyTreeEnabled() ) {
+			// the query has its own copy of the tree, which the caller cannot
+			// modify, and a plan built from it, which rebuilds its SQL from
+			// that tree, may be shared with any other query of the same shape
+			return SqmStatementShape.from( keySource.getSqmStatement() );
+		}
+		else {
+			return null;
+		}
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -80,12 +101,11 @@ private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<Stri
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
+		// Criteria-based plans are only cached by the identity of the tree, or
+		// by its shape, see SqmStatementShape; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
-		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
+		// At the moment we cannot cache query plan if there is filter enabled.
+		return ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
 			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
 				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.query.BindableType;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmHqlNumericLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+
+/**
+ * The structure of a criteria {@link SqmStatement}, independent of the identity
+ * of its nodes, used as the {@link SqmInterpretationsKey query part} of the key
+ * of a cached query plan, so that structurally equal criteria queries share it.
+ * <p>
+ * The structure is captured by the HQL rendering of the statement, in which the
+ * aliases generated for unaliased {@code from} elements are replaced by ordinals,
+ * along with the type of each parameter and the Java type of each literal, since
+ * literals are rendered without their type, so that {@code 1} might be either an
+ * {@code Integer} or a {@code Long}. A shape is only available when every
+ * parameter of the statement is a named {@link JpaCriteriaParameter}: since those
+ * are equal by name, the bindings of one query can be looked up using the
+ * parameters of the statement the cached plan was built from. Parameters for
+ * values bound by the criteria builder, unnamed parameters, and string literals
+ * are not supported.
+ *
+ * @since 7.0
+ */
+final class SqmStatementShape {
+	private static final Pattern GENERATED_ALIAS = Pattern.compile( "\\balias_(\\d+)\\b" );
+
+	private final String hql;
+	private final Map<String, ParameterType> parameterTypes;
+	private final List<Class<?>> literalTypes;
+	private final int hashCode;
+
+	private SqmStatementShape(String hql, Map<String, ParameterType> parameterTypes, List<Class<?>> literalTypes) {
+		this.hql = hql;
+		this.parameterTypes = parameterTypes;
+		this.literalTypes = literalTypes;
+		this.hashCode = 31 * ( 31 * hql.hashCode() + parameterTypes.hashCode() ) + literalTypes.hashCode();
+	}
+
+	/**
+	 * Determine the shape of the given statement.
+	 *
+	 * @return the shape, or {@code null} if the statement is not supported
+	 */
+	static SqmStatementShape from(SqmStatement<?> statement) {
+		final Map<String, ParameterType> parameterTypes = new HashMap<>();
+		for ( SqmParameter<?> parameter : statement.getSqmParameters() ) {
+			if ( !( parameter instanceof SqmJpaCriteriaParameterWrapper<?> wrapper ) ) {
+				return null;
+			}
+			final JpaCriteriaParameter<?> criteriaParameter = wrapper.getJpaCriteriaParameter();
+			if ( criteriaParameter instanceof ValueBindJpaCriteriaParameter
+					|| criteriaParameter.getName() == null ) {
+				return null;
+			}
+			parameterTypes.put( criteriaParameter.getName(), new ParameterType(
+					criteriaParameter.getAnticipatedType(),
+					criteriaParameter.allowsMultiValuedBinding()
+			) );
+		}
+
+		final String hql;
+		final LiteralTypeCollector literalTypeCollector = new LiteralTypeCollector();
+		try {
+			hql = statement.toHqlString();
+			statement.accept( literalTypeCollector );
+		}
+		catch (RuntimeException e) {
+			// not every node knows how to render itself
+			return null;
+		}
+		// a literal might contain something looking like a generated alias
+		if ( hql.indexOf( '\'' ) >= 0 ) {
+			return null;
+		}
+		return new SqmStatementShape( canonicalizeAliases( hql ), parameterTypes, literalTypeCollector.literalTypes );
+	}
+
+	private static String canonicalizeAliases(String hql) {
+		final Matcher matcher = GENERATED_ALIAS.matcher( hql );
+		if ( !matcher.find() ) {
+			return hql;
+		}
+		final Map<String, Integer> ordinals = new HashMap<>();
+		final StringBuilder sb = new StringBuilder( hql.length() );
+		do {
+			final Integer ordinal = ordinals.computeIfAbsent( matcher.group( 1 ), k -> ordinals.size() );
+			matcher.appendReplacement( sb, "alias_" + ordinal );
+		}
+		while ( matcher.find() );
+		matcher.appendTail( sb );
+		return sb.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof SqmStatementShape that ) ) {
+			return false;
+		}
+		return hashCode == that.hashCode
+			&& hql.equals( that.hql )
+			&& parameterTypes.equals( that.parameterTypes )
+			&& literalTypes.equals( that.literalTypes );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return hql;
+	}
+
+	private record ParameterType(BindableType<?> type, boolean multiValued) {
+	}
+
+	private static class LiteralTypeCollector extends BaseSemanticQueryWalker {
+		// in the order of visitation, which is the same for equal renderings
+		private final List<Class<?>> literalTypes = new ArrayList<>();
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			literalTypes.add( literal.getJavaType() );
+			return literal;
+		}
+
+		@Override
+		public <N extends Number> Object visitHqlNumericLiteral(SqmHqlNumericLiteral<N> numericLiteral) {
+			literalTypes.add( numericLiteral.getJavaType() );
+			return numericLiteral;
+		}
+	}
+}
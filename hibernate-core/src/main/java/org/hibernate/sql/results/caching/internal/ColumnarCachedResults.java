@@ -0,0 +1,292 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+
+/**
+ * An immutable, column-oriented representation of the data put into the
+ * query results cache by {@link QueryCachePutManagerEnabledImpl}.
+ * <p>
+ * Instead of one boxed object per cell, {@code Long}, {@code Integer}, and
+ * {@code Double} columns are kept in primitive arrays with a bitmap of nulls,
+ * and {@code String} columns are dictionary-encoded, so that repeated values
+ * are held once. Columns of any other type keep their values as they are.
+ * <p>
+ * The layout of the list is the same as the one it replaces: the optional
+ * {@link CachedJdbcValuesMetadata}, one element per row, and the result count.
+ * Rows are only materialized when accessed through the {@link List} interface.
+ * {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit} reads the
+ * values of the current row directly using {@link #getValue(int, int)}.
+ *
+ * @since 7.0
+ */
+public final class ColumnarCachedResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final CachedJdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final boolean singleValueRows;
+	private final Column[] columns;
+	private final Object resultCount;
+
+	private ColumnarCachedResults(
+			CachedJdbcValuesMetadata metadata,
+			int rowCount,
+			boolean singleValueRows,
+			Column[] columns,
+			Object resultCount) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.singleValueRows = singleValueRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Build the columnar representation of the given data to cache.
+	 *
+	 * @return the columnar representation, or {@code null} if the rows do not
+	 *         all have the same shape
+	 */
+	public static ColumnarCachedResults from(List<?> dataToCache) {
+		if ( dataToCache.isEmpty() ) {
+			return null;
+		}
+		final CachedJdbcValuesMetadata metadata =
+				dataToCache.get( 0 ) instanceof CachedJdbcValuesMetadata cachedMetadata ? cachedMetadata : null;
+		final int offset = metadata == null ? 0 : 1;
+		final int rowCount = dataToCache.size() - offset - 1;
+		if ( rowCount <= 0 ) {
+			return null;
+		}
+
+		final boolean singleValueRows = !( dataToCache.get( offset ) instanceof Object[] );
+		final int columnCount = singleValueRows ? 1 : ( (Object[]) dataToCache.get( offset ) ).length;
+		for ( int row = 0; row < rowCount; row++ ) {
+			final Object values = dataToCache.get( row + offset );
+			if ( values instanceof Object[] array ? singleValueRows || array.length != columnCount : !singleValueRows ) {
+				return null;
+			}
+		}
+
+		final Column[] columns = new Column[columnCount];
+		final Object[] cells = new Object[rowCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object values = dataToCache.get( row + offset );
+				cells[row] = singleValueRows ? values : ( (Object[]) values )[column];
+			}
+			columns[column] = Column.of( cells );
+		}
+		return new ColumnarCachedResults(
+				metadata,
+				rowCount,
+				singleValueRows,
+				columns,
+				dataToCache.get( dataToCache.size() - 1 )
+		);
+	}
+
+	/**
+	 * The number of cached rows.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The value at the given cache index of the given row.
+	 */
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	/**
+	 * Whether each row is a single value, rather than an {@code Object[]}.
+	 */
+	public boolean hasSingleValueRows() {
+		return singleValueRows;
+	}
+
+	@Override
+	public Object get(int index) {
+		final int offset = metadata == null ? 0 : 1;
+		if ( index == 0 && metadata != null ) {
+			return metadata;
+		}
+		else if ( index == rowCount + offset ) {
+			return resultCount;
+		}
+		else if ( index < 0 || index > rowCount + offset ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		final int row = index - offset;
+		if ( singleValueRows ) {
+			return columns[0].get( row );
+		}
+		final Object[] values = new Object[columns.length];
+		for ( int column = 0; column < columns.length; column++ ) {
+			values[column] = columns[column].get( row );
+		}
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return rowCount + ( metadata == null ? 1 : 2 );
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object get(int row);
+
+		static Column of(Object[] cells) {
+			Class<?> type = null;
+			for ( Object cell : cells ) {
+				if ( cell != null ) {
+					if ( type == null ) {
+						type = cell.getClass();
+					}
+					else if ( type != cell.getClass() ) {
+						return new ObjectColumn( cells.clone() );
+					}
+				}
+			}
+			if ( type == Long.class ) {
+				return new LongColumn( cells );
+			}
+			else if ( type == Integer.class ) {
+				return new IntegerColumn( cells );
+			}
+			else if ( type == Double.class ) {
+				return new DoubleColumn( cells );
+			}
+			else if ( type == String.class ) {
+				return new StringColumn( cells );
+			}
+			else {
+				return new ObjectColumn( cells.clone() );
+			}
+		}
+
+		static BitSet nulls(Object[] cells) {
+			final BitSet nulls = new BitSet( cells.length );
+			for ( int row = 0; row < cells.length; row++ ) {
+				if ( cells[row] == null ) {
+					nulls.set( row );
+				}
+			}
+			return nulls;
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		Object get(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+		private final BitSet nulls;
+
+		private LongColumn(Object[] cells) {
+			values = new long[cells.length];
+			nulls = nulls( cells );
+			for ( int row = 0; row < cells.length; row++ ) {
+				if ( cells[row] != null ) {
+					values[row] = (Long) cells[row];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntegerColumn extends Column {
+		private final int[] values;
+		private final BitSet nulls;
+
+		private IntegerColumn(Object[] cells) {
+			values = new int[cells.length];
+			nulls = nulls( cells );
+			for ( int row = 0; row < cells.length; row++ ) {
+				if ( cells[row] != null ) {
+					values[row] = (Integer) cells[row];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+		private final BitSet nulls;
+
+		private DoubleColumn(Object[] cells) {
+			values = new double[cells.length];
+			nulls = nulls( cells );
+			for ( int row = 0; row < cells.length; row++ ) {
+				if ( cells[row] != null ) {
+					values[row] = (Double) cells[row];
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		// -1 for null
+		private final int[] codes;
+
+		private StringColumn(Object[] cells) {
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			codes = new int[cells.length];
+			for ( int row = 0; row < cells.length; row++ ) {
+				final String value = (String) cells[row];
+				if ( value == null ) {
+					codes[row] = -1;
+				}
+				else {
+					final Integer code = codesByValue.putIfAbsent( value, codesByValue.size() );
+					codes[row] = code == null ? codesByValue.size() - 1 : code;
+				}
+			}
+			dictionary = new String[codesByValue.size()];
+			codesByValue.forEach( (value, code) -> dictionary[code] = value );
+		}
+
+		@Override
+		Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+}
@@ -57,9 +57,10 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		if ( !dataToCache.isEmpty() ) {
 			dataToCache.add( resultCount );
 		}
+		final ColumnarCachedResults columnarData = ColumnarCachedResults.from( dataToCache );
 		final boolean put = queryCache.put(
 				queryKey,
-				dataToCache,
+				columnarData == null ? dataToCache : columnarData,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
@@ -37,6 +37,11 @@ public R transformRow(Object[] row) {
 		}
 	}
 
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
@@ -69,6 +69,11 @@ public T transformRow(Object[] row) {
 		}
 	}
 
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
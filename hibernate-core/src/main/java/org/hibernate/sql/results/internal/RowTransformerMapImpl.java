@@ -37,6 +37,11 @@ public Map<String,Object> transformRow(Object[] row) {
 		return map;
 	}
 
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
@@ -33,6 +33,11 @@ public R transformRow(Object[] row) {
 		return (R) row[0];
 	}
 
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
@@ -39,6 +39,9 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	// the array of "raw" values reused for every row when the row
+	// transformer never retains it, or null if a new one is needed
+	private final Object @Nullable [] reusableRow;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -90,6 +93,10 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.reusableRow = this.rowTransformer != null && !this.rowTransformer.retainsRow()
+				&& componentType == ComponentType.OBJECT
+				? (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length )
+				: null;
 	}
 
 	@Override
@@ -143,7 +150,9 @@ public T readRow(RowProcessingState rowProcessingState) {
 				result = (T) resultAssemblers[0].assemble( rowProcessingState );
 			}
 			else {
-				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
+				final Object[] resultRow = reusableRow == null
+						? (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length )
+						: reusableRow;
 				for ( int i = 0; i < resultAssemblers.length; i++ ) {
 					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
 				}
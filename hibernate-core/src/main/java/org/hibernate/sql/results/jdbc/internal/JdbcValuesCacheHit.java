@@ -7,6 +7,7 @@
 import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -170,6 +171,12 @@ public Object getCurrentRowValue(int valueIndex) {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( cachedResults instanceof ColumnarCachedResults columnarResults ) {
+			// read the cell directly, without materializing the row
+			final int cacheIndex = valueIndexesToCacheIndexes == null ? valueIndex : valueIndexesToCacheIndexes[valueIndex];
+			assert !columnarResults.hasSingleValueRows() || cacheIndex == 0;
+			return columnarResults.getValue( position, cacheIndex );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
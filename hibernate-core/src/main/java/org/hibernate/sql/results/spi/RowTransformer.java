@@ -22,6 +22,17 @@
 	 */
 	T transformRow(Object[] row);
 
+	/**
+	 * Whether the transformed row might refer to the array of "raw" row
+	 * values passed to {@link #transformRow}. If it never does, the same
+	 * array may be reused for every row.
+	 *
+	 * @since 7.0
+	 */
+	default boolean retainsRow() {
+		return true;
+	}
+
 	/**
 	 * How many result elements will this transformation produce?
 	 */
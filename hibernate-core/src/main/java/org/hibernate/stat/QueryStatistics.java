@@ -51,6 +51,22 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * The time in milliseconds within which the given percentage
+	 * of executions of this query completed. For example, pass
+	 * {@code 99} for the 99th percentile. The value is estimated
+	 * from a histogram, and may overstate the actual time by up
+	 * to an eighth.
+	 *
+	 * @param percentile a value between 0 and 100
+	 *
+	 * @since 7.0
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
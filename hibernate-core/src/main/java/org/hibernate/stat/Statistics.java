@@ -163,6 +163,24 @@ public interface Statistics {
 	 */
 	@Nullable String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * The time in milliseconds within which the given percentage
+	 * of all query executions completed. For example, pass
+	 * {@code 99.9} for the 99.9th percentile. The value is estimated
+	 * from a histogram, and may overstate the actual time by up to
+	 * an eighth.
+	 *
+	 * @param percentile a value between 0 and 100
+	 *
+	 * @see QueryStatistics#getExecutionTimePercentile(double)
+	 *
+	 * @since 7.0
+	 */
+	default long getQueryExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The global number of cached queries successfully retrieved from
 	 * the cache.
@@ -393,4 +411,17 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from cache to make room for
+	 * others. Only reported by query plan cache implementations which
+	 * support it.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION
+	 *
+	 * @since 7.0
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
 }
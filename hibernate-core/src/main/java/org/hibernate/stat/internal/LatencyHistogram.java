@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size, lock-free histogram of non-negative durations, from which
+ * percentiles may be estimated.
+ * <p>
+ * Buckets are laid out log-linearly, in the style of HdrHistogram: values
+ * below {@value #SUB_BUCKET_COUNT} have a bucket each, and every larger power
+ * of two is split into {@value #SUB_BUCKET_COUNT} equal buckets, so that the
+ * value reported for a percentile is never more than 12.5% above the actual
+ * recorded value. Values beyond {@code 2^32} are counted in the last bucket.
+ * <p>
+ * Recording a value is a single atomic increment of the bucket it falls into,
+ * so concurrent recorders rarely contend unless they record similar values.
+ * The buckets of each power of two are only allocated once a value falls
+ * into them, and since durations usually span a few orders of magnitude,
+ * a histogram typically occupies a few hundred bytes.
+ *
+ * @since 7.0
+ */
+public class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 31;
+	private static final int SEGMENT_COUNT = MAX_EXPONENT - SUB_BUCKET_BITS + 2;
+	private static final int BUCKET_COUNT = SEGMENT_COUNT * SUB_BUCKET_COUNT;
+
+	// the buckets of each power of two, allocated on first use
+	private final AtomicReferenceArray<AtomicLongArray> segments = new AtomicReferenceArray<>( SEGMENT_COUNT );
+
+	/**
+	 * Record a single duration.
+	 *
+	 * @param value the duration, negative values are counted as zero
+	 */
+	public void record(long value) {
+		final int index = bucketIndex( value );
+		segment( index / SUB_BUCKET_COUNT ).incrementAndGet( index % SUB_BUCKET_COUNT );
+	}
+
+	private AtomicLongArray segment(int segmentIndex) {
+		AtomicLongArray segment;
+		while ( ( segment = segments.get( segmentIndex ) ) == null ) {
+			segments.compareAndSet( segmentIndex, null, new AtomicLongArray( SUB_BUCKET_COUNT ) );
+		}
+		return segment;
+	}
+
+	/**
+	 * Estimate the value at or below which the given percentage of
+	 * the recorded values fall.
+	 *
+	 * @param percentile a value between 0 and 100, for example {@code 99.9}
+	 *
+	 * @return the highest value of the bucket containing the percentile,
+	 *         or 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		// take a snapshot, so that the rank is consistent with the counts we walk
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < SEGMENT_COUNT; i++ ) {
+			final AtomicLongArray segment = segments.get( i );
+			if ( segment != null ) {
+				for ( int j = 0; j < SUB_BUCKET_COUNT; j++ ) {
+					final long count = segment.get( j );
+					snapshot[i * SUB_BUCKET_COUNT + j] = count;
+					total += count;
+				}
+			}
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += snapshot[i];
+			if ( seen >= rank ) {
+				return highestValueInBucket( i );
+			}
+		}
+		return highestValueInBucket( BUCKET_COUNT - 1 );
+	}
+
+	public void reset() {
+		for ( int i = 0; i < SEGMENT_COUNT; i++ ) {
+			segments.set( i, null );
+		}
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return value < 0 ? 0 : (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		if ( exponent > MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		final int subBucket = index % SUB_BUCKET_COUNT;
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final long lowest = (long) ( SUB_BUCKET_COUNT + subBucket ) << shift;
+		return lowest + ( 1L << shift ) - 1;
+	}
+}
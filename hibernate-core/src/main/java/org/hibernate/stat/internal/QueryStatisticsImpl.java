@@ -5,6 +5,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -28,9 +29,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder cachePutCount = new LongAdder();
 	private final LongAdder executionCount = new LongAdder();
 	private final LongAdder executionRowCount = new LongAdder();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAccumulator executionMaxTime = new LongAccumulator( Math::max, 0L );
+	private final LongAccumulator executionMinTime = new LongAccumulator( Math::min, Long.MAX_VALUE );
+	private final LongAdder totalExecutionTime = new LongAdder();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -101,7 +103,7 @@ public double getExecutionAvgTimeAsDouble() {
 			double avgExecutionTime = 0;
 			final long ec = executionCount.sum();
 			if ( ec > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) ec;
+				avgExecutionTime = totalExecutionTime.sum() / (double) ec;
 			}
 			return avgExecutionTime;
 		}
@@ -128,7 +130,15 @@ public long getExecutionMinTime() {
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return totalExecutionTime.sum();
+	}
+
+	/**
+	 * estimated time in ms within which the given percentage of executions of this query completed
+	 */
+	@Override
+	public long getExecutionTimePercentile(double percentile) {
+		return Math.min( executionTimes.getValueAtPercentile( percentile ), getExecutionMaxTime() );
 	}
 
 	/**
@@ -159,20 +169,20 @@ public long getPlanCompilationTotalMicroseconds() {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
+		// read lock is enough, concurrent updates are supported by the underlying striped types
 		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
 		readLock.lock();
 		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
+			executionMinTime.accumulate( time );
+			executionMaxTime.accumulate( time );
 			executionCount.increment();
 			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
+			totalExecutionTime.add( time );
 		}
 		finally {
 			readLock.unlock();
 		}
+		executionTimes.record( time );
 	}
 
 	/**
@@ -89,6 +89,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryExecutionCount = new LongAdder();
 	private final AtomicLong queryExecutionMaxTime = new AtomicLong();
+	private final LatencyHistogram queryExecutionTimes = new LatencyHistogram();
 	private volatile @Nullable String queryExecutionMaxTimeQueryString;
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
@@ -96,6 +97,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -187,6 +189,7 @@ public void clear() {
 		queryCacheHitCount.reset();
 		queryExecutionMaxTime.set( 0L );
 		queryExecutionMaxTimeQueryString = null;
+		queryExecutionTimes.reset();
 		queryCacheMissCount.reset();
 		queryCachePutCount.reset();
 
@@ -207,6 +210,7 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -700,10 +704,16 @@ public long getQueryExecutionMaxTime() {
 		return queryExecutionMaxTime.get();
 	}
 
+	@Override
+	public long getQueryExecutionTimePercentile(double percentile) {
+		return Math.min( queryExecutionTimes.getValueAtPercentile( percentile ), getQueryExecutionMaxTime() );
+	}
+
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
 		LOG.hql( hql, time, (long) rows );
 		queryExecutionCount.increment();
+		queryExecutionTimes.record( time );
 
 		boolean isLongestQuery;
 		//noinspection StatementWithEmptyBody
@@ -771,6 +781,11 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -798,6 +813,11 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -972,6 +992,7 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -118,6 +118,8 @@ public class EntityMetamodel implements Serializable {
 	private final boolean hasCollections;
 	private final boolean hasOwnedCollections;
 	private final BitSet mutablePropertiesIndexes;
+	private final BitSet collectionPropertiesIndexes;
+	private final boolean hasComponentCollections;
 	private final boolean hasLazyProperties;
 	private final boolean hasNonIdentifierPropertyNamedId;
 
@@ -244,6 +246,8 @@ public EntityMetamodel(
 		boolean foundCollection = false;
 		boolean foundOwnedCollection = false;
 		BitSet mutableIndexes = new BitSet();
+		BitSet collectionIndexes = new BitSet();
+		boolean foundComponentCollection = false;
 		boolean foundNonIdentifierPropertyNamedId = false;
 		boolean foundUpdateableNaturalIdProperty = false;
 		BeforeExecutionGenerator tempVersionGenerator = null;
@@ -382,6 +386,12 @@ else if ( !allowMutation ) {
 
 			if ( indicatesCollection( attribute.getType() ) ) {
 				foundCollection = true;
+				if ( attribute.getType() instanceof CollectionType ) {
+					collectionIndexes.set( i );
+				}
+				else {
+					foundComponentCollection = true;
+				}
 			}
 			if ( indicatesOwnedCollection( attribute.getType(), creationContext.getMetadata() ) ) {
 				foundOwnedCollection = true;
@@ -468,6 +478,8 @@ && isAbstractClass( persistentClass.getMappedClass() ) ) {
 		hasCollections = foundCollection;
 		hasOwnedCollections = foundOwnedCollection;
 		mutablePropertiesIndexes = mutableIndexes;
+		collectionPropertiesIndexes = collectionIndexes;
+		hasComponentCollections = foundComponentCollection;
 
 		// Need deterministic ordering
 		final Set<String> subclassEntityNamesLocal = new LinkedHashSet<>();
@@ -725,6 +737,27 @@ public BitSet getMutablePropertiesIndexes() {
 		return mutablePropertiesIndexes;
 	}
 
+	/**
+	 * The indexes of the properties of collection type, not including
+	 * collections belonging to embeddable properties.
+	 *
+	 * @see #hasComponentCollections()
+	 *
+	 * @since 7.0
+	 */
+	public BitSet getCollectionPropertiesIndexes() {
+		return collectionPropertiesIndexes;
+	}
+
+	/**
+	 * Does some embeddable property of the entity hold a collection?
+	 *
+	 * @since 7.0
+	 */
+	public boolean hasComponentCollections() {
+		return hasComponentCollections;
+	}
+
 	public boolean hasNonIdentifierPropertyNamedId() {
 		return hasNonIdentifierPropertyNamedId;
 	}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -75,6 +76,30 @@ public void generateFastMappedSuperclassAndReflectionOptimizer() {
 		assertNotNull( reflectionOptimizer.getInstantiationOptimizer().newInstance() );
 	}
 
+	@Test
+	public void generateReflectionOptimizerForPrivateFields() {
+		BytecodeProviderImpl bytecodeProvider = new BytecodeProviderImpl();
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+
+		final PropertyAccessStrategyFieldImpl propertyAccessStrategy = new PropertyAccessStrategyFieldImpl();
+		propertyAccessMap.put( "id", propertyAccessStrategy.buildPropertyAccess( SimpleEntity.class, "id", true ) );
+		propertyAccessMap.put( "name", propertyAccessStrategy.buildPropertyAccess( SimpleEntity.class, "name", true ) );
+
+		ReflectionOptimizer reflectionOptimizer = bytecodeProvider.getReflectionOptimizer(
+				SimpleEntity.class,
+				propertyAccessMap
+		);
+
+		assertNotNull( reflectionOptimizer );
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = reflectionOptimizer.getAccessOptimizer();
+		final SimpleEntity entity = new SimpleEntity();
+		accessOptimizer.setPropertyValues( entity, new Object[] { 1L, "Hibernate" } );
+		assertEquals( 1L, (long) entity.getId() );
+		assertEquals( "Hibernate", entity.getName() );
+		assertArrayEquals( new Object[] { 1L, "Hibernate" }, accessOptimizer.getPropertyValues( entity ) );
+		assertArrayEquals( new String[] { "id", "name" }, accessOptimizer.getPropertyNames() );
+	}
+
 	@Test
 	public void generateEnhancedClass() throws EnhancementException, IOException {
 		Enhancer enhancer = new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() );
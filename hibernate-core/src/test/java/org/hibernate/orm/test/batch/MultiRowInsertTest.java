@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batched inserts are rewritten as multi-row inserts
+ * when {@value BatchSettings#BATCH_MULTI_ROW_INSERTS} is enabled.
+ */
+@DomainModel(annotatedClasses = MultiRowInsertTest.Note.class)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "3"),
+		@Setting(name = BatchSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertsAreRewritten(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Note( i, "note " + i ) );
+			}
+		} );
+
+		// one statement for a full batch of three rows, and one for the remaining two
+		statementInspector.assertExecutedCount( 2 );
+		statementInspector.assertIsInsert( 0 );
+		assertThat( parameterCount( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 6 );
+		statementInspector.assertIsInsert( 1 );
+		assertThat( parameterCount( statementInspector.getSqlQueries().get( 1 ) ) ).isEqualTo( 4 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Note order by id", Note.class ).getResultList() )
+					.extracting( Note::getText )
+					.containsExactly( "note 1", "note 2", "note 3", "note 4", "note 5" );
+		} );
+	}
+
+	private static long parameterCount(String sql) {
+		return sql.chars().filter( c -> c == '?' ).count();
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Integer id;
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
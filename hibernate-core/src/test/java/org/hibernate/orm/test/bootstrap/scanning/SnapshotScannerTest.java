@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.SnapshotScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapshotScannerTest {
+
+	@Test
+	public void testSnapshotIsReused(@TempDir Path tempDir) throws IOException {
+		final Path root = Files.createDirectories( tempDir.resolve( "classes" ) );
+		Files.writeString( root.resolve( "Pasta.class" ), "pasta" );
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( root.toUri().toURL() );
+
+		final ScanResult scanned = scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+		assertThat( snapshotFile ).exists();
+
+		final ScanResult restored = scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+		assertThat( restored.getLocatedPackages() ).hasSize( 1 );
+		assertThat( restored.getLocatedPackages().iterator().next().getName() ).isEqualTo( "org.hibernate.pasta" );
+		assertThat( restored.getLocatedClasses() ).hasSize( 2 );
+		for ( ClassDescriptor classDescriptor : scanned.getLocatedClasses() ) {
+			assertThat( restored.getLocatedClasses() ).anySatisfy( restoredClass -> {
+				assertThat( restoredClass.getName() ).isEqualTo( classDescriptor.getName() );
+				assertThat( restoredClass.getCategorization() ).isEqualTo( classDescriptor.getCategorization() );
+			} );
+		}
+		final MappingFileDescriptor mappingFile = restored.getLocatedMappingFiles().iterator().next();
+		assertThat( mappingFile.getName() ).isEqualTo( "META-INF/orm.xml" );
+		try ( InputStream stream = mappingFile.getStreamAccess().accessInputStream() ) {
+			assertThat( new String( stream.readAllBytes(), StandardCharsets.UTF_8 ) ).isEqualTo( "<entity-mappings/>" );
+		}
+	}
+
+	@Test
+	public void testSnapshotIsInvalidatedByChangedArchive(@TempDir Path tempDir) throws IOException {
+		final Path root = Files.createDirectories( tempDir.resolve( "classes" ) );
+		final Path classFile = root.resolve( "Pasta.class" );
+		Files.writeString( classFile, "pasta" );
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( root.toUri().toURL() );
+
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		Files.writeString( root.resolve( "Pizza.class" ), "pizza" );
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+
+		// same size, different content
+		Files.writeString( classFile, "pesto" );
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 3 );
+
+		// the rewritten snapshot is valid again
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testSnapshotIsIndependentOfLocationAndTimestamps(@TempDir Path tempDir) throws IOException {
+		final Path buildRoot = Files.createDirectories( tempDir.resolve( "build/classes" ) );
+		final Path classFile = buildRoot.resolve( "Pasta.class" );
+		Files.writeString( classFile, "pasta" );
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final CountingScanner delegate = new CountingScanner();
+
+		scan( new SnapshotScanner( delegate, snapshotFile ), new Environment( buildRoot.toUri().toURL() ) );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		Files.setLastModifiedTime( classFile, FileTime.fromMillis( System.currentTimeMillis() + 60_000 ) );
+		scan( new SnapshotScanner( delegate, snapshotFile ), new Environment( buildRoot.toUri().toURL() ) );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		final Path deployedRoot = Files.createDirectories( tempDir.resolve( "deployed/classes" ) );
+		Files.copy( classFile, deployedRoot.resolve( "Pasta.class" ) );
+		scan( new SnapshotScanner( delegate, snapshotFile ), new Environment( deployedRoot.toUri().toURL() ) );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testClassContentIsAccessibleFromSnapshot(@TempDir Path tempDir) throws IOException {
+		final Path root = Files.createDirectories( tempDir.resolve( "classes" ) );
+		Files.writeString( root.resolve( "Pasta.class" ), "pasta" );
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( root.toUri().toURL() );
+
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		final ScanResult restored = scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		for ( ClassDescriptor classDescriptor : restored.getLocatedClasses() ) {
+			try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+				assertThat( new String( stream.readAllBytes(), StandardCharsets.UTF_8 ) )
+						.isEqualTo( classDescriptor.getName() );
+			}
+		}
+		try ( InputStream stream = restored.getLocatedPackages().iterator().next().getStreamAccess().accessInputStream() ) {
+			assertThat( new String( stream.readAllBytes(), StandardCharsets.UTF_8 ) ).isEqualTo( "org.hibernate.pasta" );
+		}
+		// scanned again only once, to access the content
+		assertThat( delegate.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCorruptSnapshotIsIgnored(@TempDir Path tempDir) throws IOException {
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		Files.writeString( snapshotFile, "not a snapshot" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( tempDir.toUri().toURL() );
+
+		final ScanResult result = scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+		assertThat( result.getLocatedClasses() ).hasSize( 2 );
+	}
+
+	@Test
+	public void testSnapshotIsNotReusedForArchiveOutsideFileSystem(@TempDir Path tempDir) throws IOException {
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( URI.create( "http://localhost/pasta.jar" ).toURL() );
+
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		scan( new SnapshotScanner( delegate, snapshotFile ), environment );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testFailedWriteLeavesNoTemporaryFile(@TempDir Path tempDir) throws IOException {
+		final Path snapshotFile = tempDir.resolve( "scan.bin" );
+		final InputStreamAccess unreadable = new InputStreamAccess() {
+			@Override
+			public String getStreamName() {
+				return "orm.xml";
+			}
+
+			@Override
+			public InputStream accessInputStream() {
+				throw new IllegalStateException( "unreadable" );
+			}
+		};
+		final Scanner delegate = (environment, options, parameters) -> new ScanResultImpl(
+				Set.of(),
+				Set.of(),
+				Set.of( new MappingFileDescriptorImpl( "META-INF/orm.xml", unreadable ) )
+		);
+
+		final ScanResult result = scan( new SnapshotScanner( delegate, snapshotFile ), new Environment( tempDir.toUri().toURL() ) );
+		assertThat( result.getLocatedMappingFiles() ).hasSize( 1 );
+		try ( Stream<Path> files = Files.list( tempDir ) ) {
+			assertThat( files ).isEmpty();
+		}
+	}
+
+	private static ScanResult scan(Scanner scanner, ScanEnvironment environment) {
+		return scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+	}
+
+	private static class CountingScanner implements Scanner {
+		private int scans;
+
+		@Override
+		public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+			scans++;
+			return new ScanResultImpl(
+					Set.of( new PackageDescriptorImpl( "org.hibernate.pasta", content( "org.hibernate.pasta" ) ) ),
+					Set.of(
+							new ClassDescriptorImpl(
+									"org.hibernate.pasta.Pasta",
+									ClassDescriptor.Categorization.MODEL,
+									content( "org.hibernate.pasta.Pasta" )
+							),
+							new ClassDescriptorImpl(
+									"org.hibernate.pasta.Converter",
+									ClassDescriptor.Categorization.CONVERTER,
+									content( "org.hibernate.pasta.Converter" )
+							)
+					),
+					Set.of( new MappingFileDescriptorImpl(
+							"META-INF/orm.xml",
+							new ByteArrayInputStreamAccess( "orm.xml", "<entity-mappings/>".getBytes( StandardCharsets.UTF_8 ) )
+					) )
+			);
+		}
+	}
+
+	private static InputStreamAccess content(String name) {
+		return new ByteArrayInputStreamAccess( name, name.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private record Environment(URL rootUrl) implements ScanEnvironment {
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.SessionEventListener;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that an auto-flush does not process the persistence context when
+ * the enhanced entities it holds report no change.
+ */
+@DomainModel(
+		annotatedClasses = {
+				DirtyTrackingAutoFlushTest.TaggedEntity.class
+		}
+)
+@SessionFactory
+@BytecodeEnhanced
+public class DirtyTrackingAutoFlushTest {
+
+	@BeforeEach
+	public void prepare(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				TaggedEntity entity = new TaggedEntity();
+				entity.id = id;
+				entity.name = "entity " + id;
+				entity.tags = new ArrayList<>( List.of( "a" ) );
+				session.persist( entity );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUnchanged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<TaggedEntity> entities =
+					session.createSelectionQuery( "from TaggedEntity", TaggedEntity.class ).getResultList();
+			entities.forEach( entity -> assertThat( entity.tags ).containsExactly( "a" ) );
+
+			final AutoFlushListener listener = new AutoFlushListener();
+			session.addEventListeners( listener );
+			session.createSelectionQuery( "from TaggedEntity", TaggedEntity.class ).getResultList();
+			assertThat( listener.autoFlushes ).isEqualTo( 1 );
+			assertThat( listener.entitiesProcessed ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testAttributeChanged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<TaggedEntity> entities =
+					session.createSelectionQuery( "from TaggedEntity order by id", TaggedEntity.class ).getResultList();
+			entities.get( 0 ).name = "changed";
+
+			final AutoFlushListener listener = new AutoFlushListener();
+			session.addEventListeners( listener );
+			assertThat( session.createSelectionQuery( "from TaggedEntity where name = 'changed'", TaggedEntity.class )
+								.getResultList() )
+					.hasSize( 1 );
+			assertThat( listener.entitiesProcessed ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testCollectionChanged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<TaggedEntity> entities =
+					session.createSelectionQuery( "from TaggedEntity order by id", TaggedEntity.class ).getResultList();
+			entities.get( 0 ).tags.add( "b" );
+
+			final AutoFlushListener listener = new AutoFlushListener();
+			session.addEventListeners( listener );
+			assertThat( session.createSelectionQuery( "select count(*) from TaggedEntity e join e.tags t", Long.class )
+								.getSingleResult() )
+					.isEqualTo( 4L );
+			assertThat( listener.entitiesProcessed ).isEqualTo( 3 );
+		} );
+	}
+
+	private static class AutoFlushListener implements SessionEventListener {
+		private int autoFlushes;
+		private int entitiesProcessed;
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			autoFlushes++;
+			entitiesProcessed += numberOfEntities;
+		}
+	}
+
+	// --- //
+
+	@Entity(name = "TaggedEntity")
+	@Table( name = "TAGGED_ENTITY" )
+	static class TaggedEntity {
+
+		@Id
+		Long id;
+
+		String name;
+
+		@ElementCollection
+		List<String> tags;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that an enhanced entity with collections is only dirty checked in full
+ * when one of its collections was replaced or one of its attributes is dirty.
+ */
+@DomainModel(
+		annotatedClasses = {
+				DirtyTrackingCollectionReferenceTest.TaggedEntity.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@BytecodeEnhanced
+public class DirtyTrackingCollectionReferenceTest {
+
+	@BeforeEach
+	public void prepare(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			TaggedEntity entity = new TaggedEntity();
+			entity.id = 1L;
+			entity.name = "entity";
+			entity.tags = new ArrayList<>( List.of( "a", "b" ) );
+			session.persist( entity );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUnchanged(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			TaggedEntity entity = session.find( TaggedEntity.class, 1L );
+			assertThat( entity.tags ).containsExactly( "a", "b" );
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertExecutedCount( 0 );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( TaggedEntity.class, 1L ).version ).isEqualTo( 0 ) );
+	}
+
+	@Test
+	public void testElementChanged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			TaggedEntity entity = session.find( TaggedEntity.class, 1L );
+			entity.tags.set( 0, "c" );
+		} );
+		scope.inTransaction( session -> {
+			TaggedEntity entity = session.find( TaggedEntity.class, 1L );
+			assertThat( entity.tags ).containsExactly( "c", "b" );
+			assertThat( entity.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testReplacedBySameSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			TaggedEntity entity = session.find( TaggedEntity.class, 1L );
+			entity.tags = new ArrayList<>( List.of( "c", "d" ) );
+		} );
+		scope.inTransaction( session -> {
+			TaggedEntity entity = session.find( TaggedEntity.class, 1L );
+			assertThat( entity.tags ).containsExactly( "c", "d" );
+			assertThat( entity.version ).isEqualTo( 1 );
+		} );
+	}
+
+	// --- //
+
+	@Entity
+	@Table( name = "TAGGED_ENTITY" )
+	static class TaggedEntity {
+
+		@Id
+		Long id;
+
+		@Version
+		Integer version;
+
+		String name;
+
+		@ElementCollection
+		@OrderColumn
+		List<String> tags;
+	}
+}
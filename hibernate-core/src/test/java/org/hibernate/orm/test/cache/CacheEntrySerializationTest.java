@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entries of {@link org.hibernate.cache.internal.LocalRegionFactory} are stored
+ * serialized, so this exercises the serial forms of the cache entries.
+ */
+@DomainModel(annotatedClasses = CacheEntrySerializationTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory")
+})
+@SessionFactory(generateStatistics = true)
+public class CacheEntrySerializationTest {
+
+	@Test
+	public void testCachedStateRoundTrips(SessionFactoryScope scope) {
+		final UUID isbn = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			final Book book = new Book();
+			book.id = -1L;
+			book.title = "Les Miserables";
+			book.pages = 1463;
+			book.price = new BigDecimal( "12.50" );
+			book.isbn = isbn;
+			book.available = true;
+			book.cover = new byte[] { 1, 2, 3 };
+			book.publisher = new Publisher( "Lacroix", (short) 1862 );
+			book.chapters.add( "Fantine" );
+			book.chapters.add( "Cosette" );
+			session.persist( book );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		// load twice, so that the second load reads the collection from the cache too
+		for ( int i = 0; i < 2; i++ ) {
+			statistics.clear();
+			scope.inTransaction( session -> {
+				final Book book = session.get( Book.class, -1L );
+				assertThat( book.title ).isEqualTo( "Les Miserables" );
+				assertThat( book.pages ).isEqualTo( 1463 );
+				assertThat( book.price ).isEqualByComparingTo( "12.50" );
+				assertThat( book.isbn ).isEqualTo( isbn );
+				assertThat( book.available ).isTrue();
+				assertThat( book.cover ).containsExactly( 1, 2, 3 );
+				assertThat( book.publisher.name ).isEqualTo( "Lacroix" );
+				assertThat( book.publisher.year ).isEqualTo( (short) 1862 );
+				assertThat( book.version ).isZero();
+				assertThat( book.chapters ).containsExactly( "Fantine", "Cosette" );
+			} );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( i + 1 );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+		@Version
+		private int version;
+		private String title;
+		private int pages;
+		private BigDecimal price;
+		private UUID isbn;
+		private boolean available;
+		private byte[] cover;
+		private Publisher publisher;
+
+		@ElementCollection
+		@OrderColumn
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<String> chapters = new ArrayList<>();
+	}
+
+	@Embeddable
+	public static class Publisher {
+		private String name;
+		private short year;
+
+		public Publisher() {
+		}
+
+		public Publisher(String name, short year) {
+			this.name = name;
+			this.year = year;
+		}
+	}
+}
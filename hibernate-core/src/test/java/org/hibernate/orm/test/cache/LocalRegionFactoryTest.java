@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = LocalRegionFactoryTest.Dog.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory")
+})
+@SessionFactory(generateStatistics = true)
+public class LocalRegionFactoryTest {
+	private static final String REGION = "dogs";
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityAndCollectionAreCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Dog yogi = new Dog( "Yogi" );
+			yogi.nickNames.add( "The Yog" );
+			yogi.nickNames.add( "Little Boy" );
+			session.persist( yogi );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Dog yogi = session.get( Dog.class, "Yogi" );
+			assertThat( yogi.nickNames ).containsExactlyInAnyOrder( "The Yog", "Little Boy" );
+		} );
+		// the entity was put on commit, the collection is put when it is first loaded
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Dog yogi = session.get( Dog.class, "Yogi" );
+			assertThat( yogi.nickNames ).containsExactlyInAnyOrder( "The Yog", "Little Boy" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( REGION );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+	}
+
+	@Test
+	public void testUpdatedCollectionIsVisible(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Dog( "Irma" ) ) );
+		scope.inTransaction( session -> {
+			final Dog irma = session.get( Dog.class, "Irma" );
+			irma.nickNames.add( "Squirmy" );
+		} );
+		scope.inTransaction( session -> {
+			final Dog irma = session.get( Dog.class, "Irma" );
+			assertThat( irma.nickNames ).containsExactly( "Squirmy" );
+		} );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1024 );
+		for ( int i = 0; i < 100; i++ ) {
+			storageAccess.putIntoCache( i, "value #" + i, null );
+		}
+		assertThat( storageAccess.getSizeInMemory() ).isLessThanOrEqualTo( 1024 );
+		assertThat( storageAccess.getElementCountInMemory() ).isLessThan( 100 );
+		assertThat( storageAccess.contains( 0 ) ).isFalse();
+		assertThat( storageAccess.getFromCache( 99, null ) ).isEqualTo( "value #99" );
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getSizeInMemory() ).isZero();
+	}
+
+	@Test
+	public void testRecentlyReadEntriesAreRetained() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 4096 );
+		storageAccess.putIntoCache( "hot", "hot value", null );
+		for ( int i = 0; i < 1000; i++ ) {
+			storageAccess.putIntoCache( i, "value #" + i, null );
+			assertThat( storageAccess.getFromCache( "hot", null ) ).isEqualTo( "hot value" );
+		}
+		assertThat( storageAccess.getSizeInMemory() ).isLessThanOrEqualTo( 4096 );
+		assertThat( storageAccess.contains( 0 ) ).isFalse();
+	}
+
+	@Test
+	public void testOversizedValuesAreNotCached() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1024 );
+		storageAccess.putIntoCache( 1, "small", null );
+		storageAccess.putIntoCache( 1, "x".repeat( 1024 ), null );
+		assertThat( storageAccess.contains( 1 ) ).isFalse();
+		assertThat( storageAccess.getSizeInMemory() ).isZero();
+	}
+
+	@Test
+	public void testNonSerializableValuesAreBounded() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1024 );
+		final int count = OffHeapStorageAccess.MAX_HEAP_ENTRIES + 10;
+		for ( int i = 0; i < count; i++ ) {
+			storageAccess.putIntoCache( i, new Object(), null );
+		}
+		storageAccess.putIntoCache( count - 1, new Object(), null );
+		assertThat( storageAccess.getElementCountInMemory() ).isEqualTo( OffHeapStorageAccess.MAX_HEAP_ENTRIES );
+		assertThat( storageAccess.contains( 0 ) ).isFalse();
+		assertThat( storageAccess.contains( count - 1 ) ).isTrue();
+		assertThat( storageAccess.getSizeInMemory() ).isZero();
+	}
+
+	@Entity(name = "Dog")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION)
+	public static class Dog {
+		@Id
+		private String name;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION)
+		private Set<String> nickNames = new HashSet<>();
+
+		public Dog(String name) {
+			this.name = name;
+		}
+
+		public Dog() {
+		}
+	}
+}
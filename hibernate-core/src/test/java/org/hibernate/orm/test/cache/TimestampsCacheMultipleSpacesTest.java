@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the update timestamps of queries which span several tables,
+ * which are read and written in bulk.
+ */
+@DomainModel(annotatedClasses = {
+		TimestampsCacheMultipleSpacesTest.Owner.class,
+		TimestampsCacheMultipleSpacesTest.Pet.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true")
+})
+@SessionFactory(generateStatistics = true)
+public class TimestampsCacheMultipleSpacesTest {
+	private static final String QUERY = "select o.name, p.name from Owner o, Pet p order by o.name, p.name";
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inTransaction( session -> {
+			session.persist( new Owner( 1, "Gavin" ) );
+			session.persist( new Pet( 1, "Rex" ) );
+		} );
+	}
+
+	@Test
+	public void testQuerySpanningSeveralSpaces(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		assertThat( runQuery( scope ) ).hasSize( 1 );
+		assertThat( runQuery( scope ) ).hasSize( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		// both spaces were checked, and neither was modified since the results were cached
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.persist( new Pet( 2, "Fido" ) ) );
+		// one pre-invalidation and one invalidation of the single modified space
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+
+		assertThat( runQuery( scope ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<Object[]> runQuery(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests waiting for a connection when the pool of
+ * {@link DriverManagerConnectionProviderImpl} is exhausted.
+ */
+public class DriverManagerConnectionProviderAcquisitionTest {
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		final DriverManagerConnectionProviderImpl provider = provider( "10000" );
+		try {
+			final Connection connection = provider.getConnection();
+			final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+				try {
+					return provider.getConnection();
+				}
+				catch (Exception e) {
+					throw new RuntimeException( e );
+				}
+			} );
+			Thread.sleep( 100 );
+			assertThat( waiting ).isNotDone();
+
+			provider.closeConnection( connection );
+			final Connection returned = waiting.get( 10, TimeUnit.SECONDS );
+			assertThat( returned ).isSameAs( connection );
+			provider.closeConnection( returned );
+
+			assertThat( provider.getConnectionAcquisitionTimeAtPercentile( 100 ) )
+					.isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toMicros( 100 ) );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final DriverManagerConnectionProviderImpl provider = provider( "100" );
+		try {
+			final Connection connection = provider.getConnection();
+			assertThatThrownBy( provider::getConnection ).isInstanceOf( HibernateException.class );
+			provider.closeConnection( connection );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testPoolGrowsToMaximumSize() throws Exception {
+		final DriverManagerConnectionProviderImpl provider = provider( "100", 3 );
+		try {
+			final Connection[] connections = new Connection[3];
+			for ( int i = 0; i < connections.length; i++ ) {
+				connections[i] = provider.getConnection();
+			}
+			assertThat( connections ).doesNotHaveDuplicates();
+			assertThatThrownBy( provider::getConnection ).isInstanceOf( HibernateException.class );
+			for ( Connection connection : connections ) {
+				provider.closeConnection( connection );
+			}
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	private static DriverManagerConnectionProviderImpl provider(String acquisitionTimeout) {
+		return provider( acquisitionTimeout, 1 );
+	}
+
+	private static DriverManagerConnectionProviderImpl provider(String acquisitionTimeout, int poolSize) {
+		final Map<String, Object> settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, Integer.toString( poolSize ) );
+		settings.put( DriverManagerConnectionProviderImpl.INITIAL_SIZE, "1" );
+		settings.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, acquisitionTimeout );
+		final DriverManagerConnectionProviderImpl provider = new DriverManagerConnectionProviderImpl();
+		provider.configure( settings );
+		return provider;
+	}
+}
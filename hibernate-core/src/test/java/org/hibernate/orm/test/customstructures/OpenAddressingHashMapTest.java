@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHashMapTest {
+
+	@Test
+	public void basicMapFunctionality() {
+		final Map<String, Object> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", null ) );
+		assertEquals( 1, map.put( "a", 2 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 2, map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertNull( map.get( "b" ) );
+		assertFalse( map.containsKey( "c" ) );
+		assertNull( map.get( null ) );
+		assertThrows( NullPointerException.class, () -> map.put( null, 3 ) );
+		assertEquals( 2, map.remove( "a" ) );
+		assertNull( map.remove( "a" ) );
+		assertEquals( 1, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertFalse( map.containsKey( "b" ) );
+	}
+
+	@Test
+	public void collidingKeys() {
+		final Map<Colliding, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new Colliding( i ), i );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertEquals( i, map.remove( new Colliding( i ) ) );
+		}
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : i, map.get( new Colliding( i ) ) );
+		}
+	}
+
+	@Test
+	public void iteratorRemoval() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+		}
+		final Iterator<Integer> values = map.values().iterator();
+		int visited = 0;
+		while ( values.hasNext() ) {
+			if ( values.next() % 3 != 0 ) {
+				values.remove();
+			}
+			visited++;
+		}
+		assertEquals( 1000, visited );
+		assertEquals( 334, map.size() );
+		for ( Map.Entry<Integer, Integer> entry : map.entrySet() ) {
+			assertEquals( 0, entry.getKey() % 3 );
+			entry.setValue( -entry.getKey() );
+		}
+		map.forEach( (key, value) -> assertEquals( -key, value.intValue() ) );
+	}
+
+	@Test
+	public void setValueWhileIteratingFullTable() {
+		final Map<Colliding, Integer> map = new OpenAddressingHashMap<>( 4 );
+		for ( int i = 0; i < 4; i++ ) {
+			map.put( new Colliding( i ), i );
+		}
+		// leaves a tombstone in the middle of the probe sequence, so
+		// that the table is due for a rehash on the next insertion
+		assertEquals( 1, map.remove( new Colliding( 1 ) ) );
+		int visited = 0;
+		for ( Map.Entry<Colliding, Integer> entry : map.entrySet() ) {
+			assertEquals( entry.getKey().value, entry.setValue( -entry.getKey().value ) );
+			visited++;
+		}
+		assertEquals( 3, visited );
+		assertEquals( 3, map.size() );
+		map.forEach( (key, value) -> assertEquals( -key.value, value.intValue() ) );
+
+		final Iterator<Colliding> keys = map.keySet().iterator();
+		keys.next();
+		map.put( new Colliding( 4 ), 4 );
+		assertThrows( ConcurrentModificationException.class, keys::next );
+	}
+
+	@Test
+	public void behavesLikeHashMap() {
+		final Random random = new Random( 42 );
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Map<Integer, Integer> actual = new OpenAddressingHashMap<>( 4 );
+		for ( int i = 0; i < 200_000; i++ ) {
+			final Integer key = random.nextInt( 5_000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+				case 1:
+					assertEquals( expected.put( key, i ), actual.put( key, i ) );
+					break;
+				default:
+					assertEquals( expected.remove( key ), actual.remove( key ) );
+			}
+			assertEquals( expected.size(), actual.size() );
+		}
+		assertEquals( expected, actual );
+		assertEquals( actual, expected );
+		assertEquals( expected.keySet(), actual.keySet() );
+	}
+
+	private static final class Colliding {
+		private final int value;
+
+		private Colliding(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Colliding && ( (Colliding) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
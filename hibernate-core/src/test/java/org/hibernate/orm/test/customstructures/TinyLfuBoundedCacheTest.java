@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.TinyLfuBoundedCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuBoundedCacheTest {
+
+	@Test
+	public void basicCacheFunctionality() {
+		final TinyLfuBoundedCache<String, Integer> cache = new TinyLfuBoundedCache<>( 10, null );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", 1 );
+		assertEquals( 1, cache.get( "a" ) );
+		cache.put( "a", 2 );
+		assertEquals( 2, cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 3, cache.computeIfAbsent( "b", key -> 3 ) );
+		assertEquals( 3, cache.computeIfAbsent( "b", key -> 4 ) );
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+	}
+
+	@Test
+	public void conditionalRemoval() {
+		final TinyLfuBoundedCache<String, Integer> cache = new TinyLfuBoundedCache<>( 10, null );
+		cache.put( "a", 1 );
+		assertFalse( cache.remove( "a", 2 ) );
+		assertEquals( 1, cache.get( "a" ) );
+		assertTrue( cache.remove( "a", 1 ) );
+		assertNull( cache.get( "a" ) );
+		assertFalse( cache.remove( "a", 1 ) );
+		// the removed entry no longer counts toward the bound
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "key" + i, i );
+		}
+		assertEquals( 10, cache.size() );
+	}
+
+	@Test
+	public void sizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuBoundedCache<Integer, Integer> cache =
+				new TinyLfuBoundedCache<>( 100, key -> evictions.incrementAndGet() );
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.computeIfAbsent( i, key -> key );
+			assertTrue( cache.size() <= 100 );
+		}
+		assertEquals( 10_000 - cache.size(), evictions.get() );
+	}
+
+	@Test
+	public void frequentEntriesSurviveScans() {
+		final TinyLfuBoundedCache<Integer, Integer> cache = new TinyLfuBoundedCache<>( 100, null );
+		// a working set of hot entries, each requested many times
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				cache.computeIfAbsent( i, key -> key );
+			}
+		}
+		// followed by a scan of entries which are requested only once
+		for ( int i = 1_000; i < 1_500; i++ ) {
+			cache.computeIfAbsent( i, key -> key );
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertTrue( retained >= 45, "Only " + retained + " hot entries were retained" );
+	}
+}
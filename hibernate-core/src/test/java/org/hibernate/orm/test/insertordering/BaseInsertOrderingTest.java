@@ -95,6 +95,14 @@ void verifyContainsBatches(Batch... expectedBatches) {
 		}
 	}
 
+	void verifyPreparedStatementOrder(String... expectedSqlPrefixes) {
+		final List<String> preparedSql = connectionProvider.getPreparedSQLStatements();
+		assertThat( preparedSql ).hasSize( expectedSqlPrefixes.length );
+		for ( int i = 0; i < expectedSqlPrefixes.length; i++ ) {
+			assertThat( preparedSql.get( i ) ).startsWith( expectedSqlPrefixes[i] );
+		}
+	}
+
 	void verifyPreparedStatementCount(int expectedBatchCount) {
 		final int realBatchCount = connectionProvider.getPreparedSQLStatements().size();
 		assertThat( realBatchCount )
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.hibernate.testing.logger.Triggerable;
+import org.hibernate.testing.orm.logger.LoggerInspectionExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.jboss.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the order in which the sorted inserts are executed when some inserts
+ * of an entity depend on inserts of another entity, or of the same entity.
+ */
+public class InsertOrderingDependencyOrderTest extends BaseInsertOrderingTest {
+
+	@RegisterExtension
+	public LoggerInspectionExtension logInspection = LoggerInspectionExtension.builder()
+			.setLogger( Logger.getMessageLogger( MethodHandles.lookup(), CoreMessageLogger.class, ActionQueue.class.getName() ) )
+			.build();
+
+	private Triggerable circularWarning;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Node.class, Employee.class, Department.class, Folder.class, Document.class };
+	}
+
+	@BeforeEach
+	public void watchForCircularWarning() {
+		circularWarning = logInspection.watchForLogMessages( "The batch containing" );
+		circularWarning.reset();
+	}
+
+	@AfterEach
+	public void dropData() {
+		sessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSelfReferencingGroupIsScheduledInOneBatch() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Node root = new Node( 1L, null );
+			session.persist( root );
+			session.persist( new Employee( 1L, null ) );
+			final Node child = new Node( 2L, root );
+			session.persist( child );
+			session.persist( new Node( 3L, child ) );
+
+			clearBatches();
+		} );
+
+		// the employee has no pending dependencies, while the nodes depend on each other,
+		// and are scheduled in order as soon as the node they reference is
+		verifyPreparedStatementOrder( "insert into Employee ", "insert into Node " );
+		assertThat( circularWarning.wasTriggered() ).isFalse();
+	}
+
+	@Test
+	public void testReadyPartOfGroupIsScheduledFirst() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Employee manager = new Employee( 1L, null );
+			session.persist( manager );
+			final Department department = new Department( 1L, manager );
+			session.persist( department );
+			session.persist( new Employee( 2L, department ) );
+			session.persist( new Node( 1L, null ) );
+
+			clearBatches();
+		} );
+
+		// the node goes first, since all its inserts are ready, then the manager,
+		// which the department depends on, and finally the employee of the department
+		verifyPreparedStatementOrder(
+				"insert into Node ",
+				"insert into Employee ",
+				"insert into Department ",
+				"insert into Employee "
+		);
+		assertThat( circularWarning.wasTriggered() ).isFalse();
+	}
+
+	@Test
+	public void testCircularDependencyIsBrokenInOriginalOrder() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Document document = new Document( 1L );
+			session.persist( document );
+			// the folder depends on its cover, which, as an element
+			// of its documents, depends on the folder
+			final Folder folder = new Folder( 1L, document );
+			folder.documents.add( document );
+			session.persist( folder );
+
+			clearBatches();
+		} );
+
+		// the document is inserted first, since it was persisted first,
+		// and it is associated with the folder once both are inserted
+		verifyPreparedStatementOrder(
+				"insert into Document ",
+				"insert into Folder ",
+				"update Document "
+		);
+		assertThat( circularWarning.wasTriggered() ).isTrue();
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(Long id, Node parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Long id, Employee manager) {
+			this.id = id;
+			this.manager = manager;
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Document cover;
+
+		@OneToMany
+		@JoinColumn(name = "folder_id")
+		private List<Document> documents = new ArrayList<>();
+
+		public Folder() {
+		}
+
+		public Folder(Long id, Document cover) {
+			this.id = id;
+			this.cover = cover;
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		public Document() {
+		}
+
+		public Document(Long id) {
+			this.id = id;
+		}
+	}
+}
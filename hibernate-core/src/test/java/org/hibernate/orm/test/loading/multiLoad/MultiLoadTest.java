@@ -621,6 +621,25 @@ public void testMultiLoadWithCacheModeIgnore(SessionFactoryScope scope) {
 		}
 	}
 
+	@Test
+	public void testRepeatedChunkedMultiLoad(SessionFactoryScope scope) {
+		// the load plans for chunks of the same size are shared between
+		// chunks, and between multi-loads
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class )
+								.withBatchSize( 7 )
+								.multiLoad( ids( 60 ) );
+						assertEquals( 60, list.size() );
+						for ( int j = 0; j < list.size(); j++ ) {
+							assertEquals( Integer.valueOf( j + 1 ), list.get( j ).getId() );
+						}
+					}
+			);
+		}
+	}
+
 	@Test
 	public void testMultiLoadClearsBatchFetchQueue(SessionFactoryScope scope) {
 		final EntityKey entityKey = new EntityKey(
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.internal.NaturalIdResolutionIndex;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = CacheSettings.NATURAL_ID_RESOLUTION_INDEX_SIZE, value = "2" ),
+		}
+)
+@DomainModel( annotatedClasses = NaturalIdResolutionIndexTest.Country.class )
+@SessionFactory
+public class NaturalIdResolutionIndexTest {
+
+	private NaturalIdResolutionIndex resolveIndex(SessionFactoryScope scope) {
+		final NaturalIdDataAccess cacheAccess = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Country.class )
+				.getNaturalIdMapping()
+				.getCacheAccess();
+		assertThat( cacheAccess ).isInstanceOf( NaturalIdResolutionIndex.class );
+		return (NaturalIdResolutionIndex) cacheAccess;
+	}
+
+	@Test
+	public void testResolutionIsIndexedAndInvalidatedByDelete(SessionFactoryScope scope) {
+		final NaturalIdResolutionIndex index = resolveIndex( scope );
+		scope.inTransaction( (session) -> session.persist( new Country( 1, "FR", "France" ) ) );
+		// inserts never populate the index
+		assertThat( index.size() ).isEqualTo( 0 );
+
+		scope.inTransaction( (session) -> {
+			final Country country = session.bySimpleNaturalId( Country.class ).load( "FR" );
+			assertThat( country.name ).isEqualTo( "France" );
+		} );
+		assertThat( index.size() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			final Country country = session.bySimpleNaturalId( Country.class ).load( "FR" );
+			assertThat( country.name ).isEqualTo( "France" );
+			session.remove( country );
+		} );
+		assertThat( index.size() ).isEqualTo( 0 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.bySimpleNaturalId( Country.class ).load( "FR" ) ).isNull();
+		} );
+		assertThat( index.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testIndexIsBounded(SessionFactoryScope scope) {
+		final NaturalIdResolutionIndex index = resolveIndex( scope );
+		scope.inTransaction( (session) -> {
+			session.persist( new Country( 1, "FR", "France" ) );
+			session.persist( new Country( 2, "DE", "Germany" ) );
+			session.persist( new Country( 3, "IT", "Italy" ) );
+		} );
+
+		for ( String code : new String[] { "FR", "DE", "IT", "FR" } ) {
+			scope.inTransaction( (session) -> {
+				assertThat( session.bySimpleNaturalId( Country.class ).load( code ) ).isNotNull();
+			} );
+			assertThat( index.size() ).isLessThanOrEqualTo( 2 );
+		}
+	}
+
+	@Test
+	public void testEvictionClearsIndex(SessionFactoryScope scope) {
+		final NaturalIdResolutionIndex index = resolveIndex( scope );
+		scope.inTransaction( (session) -> session.persist( new Country( 1, "FR", "France" ) ) );
+		scope.inTransaction( (session) -> session.bySimpleNaturalId( Country.class ).load( "FR" ) );
+		assertThat( index.size() ).isEqualTo( 1 );
+
+		scope.getSessionFactory().getCache().evictNaturalIdData( Country.class );
+		assertThat( index.size() ).isEqualTo( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Entity( name = "Country" )
+	@Table( name = "natural_id_indexed" )
+	@NaturalIdCache
+	public static class Country {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String code;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that plans of criteria queries with copied trees are shared
+ * between structurally equal trees.
+ */
+@DomainModel(annotatedClasses = CriteriaPlanCacheShapeTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_ENABLED, value = "true"),
+		@Setting(name = QuerySettings.CRITERIA_COPY_TREE, value = "true")
+})
+@SessionFactory
+public class CriteriaPlanCacheShapeTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "hammer" ) );
+			session.persist( new Product( 2, "saw" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testStructurallyEqualTreesSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( session.createQuery( byName( session.getCriteriaBuilder() ) )
+								.setParameter( "name", "hammer" )
+								.getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 1 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			assertThat( session.createQuery( byName( session.getCriteriaBuilder() ) )
+								.setParameter( "name", "saw" )
+								.getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 2 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testDifferentTreesDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			session.createQuery( byName( cb ) ).setParameter( "name", "hammer" ).getResultList();
+
+			final JpaCriteriaQuery<Product> query = cb.createQuery( Product.class );
+			final JpaRoot<Product> root = query.from( Product.class );
+			query.where( cb.notEqual( root.get( "name" ), cb.parameter( String.class, "name" ) ) );
+			assertThat( session.createQuery( query ).setParameter( "name", "hammer" ).getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 2 );
+
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testBoundValuesAreNotShared(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( String name : List.of( "hammer", "saw" ) ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Product> query = cb.createQuery( Product.class );
+				final JpaRoot<Product> root = query.from( Product.class );
+				query.where( cb.equal( root.get( "name" ), name ) );
+				assertThat( session.createQuery( query ).getResultList() ).hasSize( 1 );
+			}
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testLiteralsOfDifferentTypesDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( session.createQuery( literalByName( session.getCriteriaBuilder(), 1 ) )
+								.setParameter( "name", "hammer" )
+								.getResultList() )
+					.containsExactly( 1 );
+			assertThat( session.createQuery( literalByName( session.getCriteriaBuilder(), 1L ) )
+								.setParameter( "name", "hammer" )
+								.getResultList() )
+					.containsExactly( 1L );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testEditedCriteriaDoesNotAffectPlanOfSameShape(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the query shares the tree of the criteria, so its plan must not be shared by shape
+			session.setCriteriaCopyTreeEnabled( false );
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Product> edited = cb.createQuery( Product.class );
+			final JpaRoot<Product> root = edited.from( Product.class );
+			edited.where( cb.equal( root.get( "name" ), cb.parameter( String.class, "name" ) ) );
+			assertThat( session.createQuery( edited ).setParameter( "name", "hammer" ).getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 1 );
+
+			edited.where( cb.notEqual( root.get( "name" ), cb.parameter( String.class, "name" ) ) );
+			assertThat( session.createQuery( byName( cb ) )
+								.setParameter( "name", "saw" )
+								.setMaxResults( 1 )
+								.getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 2 );
+
+			session.setCriteriaCopyTreeEnabled( true );
+			assertThat( session.createQuery( byName( cb ) )
+								.setParameter( "name", "saw" )
+								.setMaxResults( 1 )
+								.getResultList() )
+					.extracting( Product::getId )
+					.containsExactly( 2 );
+		} );
+	}
+
+	private static JpaCriteriaQuery<Object> literalByName(HibernateCriteriaBuilder cb, Object literal) {
+		final JpaCriteriaQuery<Object> query = cb.createQuery( Object.class );
+		final JpaRoot<Product> root = query.from( Product.class );
+		query.select( cb.literal( literal ) );
+		query.where( cb.equal( root.get( "name" ), cb.parameter( String.class, "name" ) ) );
+		return query;
+	}
+
+	private static JpaCriteriaQuery<Product> byName(HibernateCriteriaBuilder cb) {
+		final JpaCriteriaQuery<Product> query = cb.createQuery( Product.class );
+		final JpaRoot<Product> root = query.from( Product.class );
+		final JpaParameterExpression<String> name = cb.parameter( String.class, "name" );
+		query.where( cb.equal( root.get( "name" ), name ) );
+		return query;
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
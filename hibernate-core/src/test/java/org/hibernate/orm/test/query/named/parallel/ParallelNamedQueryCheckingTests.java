@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.named.parallel;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_STARTUP_CHECKING_PARALLELISM}
+ */
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_STARTUP_CHECKING_PARALLELISM, value = "4"))
+public class ParallelNamedQueryCheckingTests {
+	@Test
+	void validQueries(ServiceRegistryScope registryScope) {
+		final MetadataSources metadataSources = new MetadataSources( registryScope.getRegistry() )
+				.addAnnotatedClass( Book.class );
+		try (final SessionFactory sessionFactory = metadataSources.buildMetadata().buildSessionFactory()) {
+			// the interpretations produced by the check are cached
+			assertThat( sessionFactory.unwrap( SessionFactoryImplementor.class )
+								.getQueryEngine()
+								.getInterpretationCache()
+								.getNumberOfCachedHqlInterpretations() )
+					.isGreaterThanOrEqualTo( 4 );
+		}
+	}
+
+	@Test
+	void invalidQueries(ServiceRegistryScope registryScope) {
+		final MetadataSources metadataSources = new MetadataSources( registryScope.getRegistry() )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClass( BrokenBook.class );
+		try (final SessionFactory sessionFactory = metadataSources.buildMetadata().buildSessionFactory()) {
+			fail( "Expecting an exception" );
+		}
+		catch (NamedQueryValidationException expected) {
+			assertThat( expected.getErrors() ).containsOnlyKeys( "brokenPath", "brokenEntity" );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "all", query = "from Book")
+	@NamedQuery(name = "byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "titles", query = "select title from Book order by title")
+	@NamedQuery(name = "count", query = "select count(*) from Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+	}
+
+	@Entity(name = "BrokenBook")
+	@NamedQuery(name = "brokenPath", query = "from BrokenBook where subtitle = :title")
+	@NamedQuery(name = "brokenEntity", query = "from NoSuchBook")
+	public static class BrokenBook {
+		@Id
+		private Integer id;
+		private String title;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.named.pinned;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
+import org.hibernate.query.hql.spi.SqmQueryImplementor;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_PIN_NAMED_INTERPRETATIONS}
+ */
+@DomainModel(annotatedClasses = PinnedNamedQueryInterpretationTests.Book.class)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_PIN_NAMED_INTERPRETATIONS, value = "true"))
+@SessionFactory
+public class PinnedNamedQueryInterpretationTests {
+	@Test
+	void testInterpretationsArePinned(SessionFactoryScope scope) {
+		final QueryEngine queryEngine = scope.getSessionFactory().getQueryEngine();
+		for ( String name : new String[] { "all", "byTitle" } ) {
+			final NamedHqlQueryMementoImpl<?> memento =
+					(NamedHqlQueryMementoImpl<?>) queryEngine.getNamedObjectRepository().getSqmQueryMemento( name );
+			assertThat( memento.getPinnedInterpretation() ).isNotNull();
+		}
+	}
+
+	@Test
+	void testPinnedInterpretationSurvivesCacheEviction(SessionFactoryScope scope) {
+		final QueryEngine queryEngine = scope.getSessionFactory().getQueryEngine();
+		final HqlInterpretation<?> pinned =
+				( (NamedHqlQueryMementoImpl<?>) queryEngine.getNamedObjectRepository().getSqmQueryMemento( "byTitle" ) )
+						.getPinnedInterpretation();
+		queryEngine.getInterpretationCache().close();
+
+		scope.inTransaction( session -> {
+			final SqmQueryImplementor<?> query =
+					(SqmQueryImplementor<?>) session.createNamedQuery( "byTitle", Book.class );
+			assertThat( query.getSqmStatement() ).isSameAs( pinned.getSqmStatement() );
+			query.setParameter( "title", "Hibernate in Action" ).getResultList();
+		} );
+		assertThat( queryEngine.getInterpretationCache().getNumberOfCachedHqlInterpretations() ).isZero();
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "all", query = "from Book")
+	@NamedQuery(name = "byTitle", query = "from Book where title = :title")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Multi-row results of row transformers which do, and which do not,
+ * retain the array of "raw" row values.
+ */
+@DomainModel( annotatedClasses = {SimpleEntity.class, Dto.class } )
+@SessionFactory
+public class RowArrayReuseTests {
+	private static final String QUERY = "select id, name from SimpleEntity order by id";
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new SimpleEntity( 1, "first", new SimpleComposite( "a", "b" ) ) );
+			session.persist( new SimpleEntity( 2, "second", new SimpleComposite( "c", "d" ) ) );
+			session.persist( new SimpleEntity( 3, "third", new SimpleComposite( "e", "f" ) ) );
+		});
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createQuery( "delete SimpleEntity" ).executeUpdate();
+		});
+	}
+
+	@Test
+	public void testConstructorResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Dto> results = session.createQuery( QUERY, Dto.class ).list();
+			assertThat( results ).extracting( Dto::getKey ).containsExactly( 1, 2, 3 );
+			assertThat( results ).extracting( Dto::getText ).containsExactly( "first", "second", "third" );
+		});
+	}
+
+	@Test
+	public void testListResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			@SuppressWarnings("rawtypes")
+			final List<List> results = session.createQuery( QUERY, List.class ).list();
+			assertThat( results ).containsExactly( List.of( 1, "first" ), List.of( 2, "second" ), List.of( 3, "third" ) );
+		});
+	}
+
+	@Test
+	public void testMapResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			@SuppressWarnings("rawtypes")
+			final List<Map> results = session.createQuery( "select id as id, name as name from SimpleEntity order by id", Map.class ).list();
+			assertThat( results ).extracting( map -> map.get( "name" ) ).containsExactly( "first", "second", "third" );
+		});
+	}
+
+	@Test
+	public void testStreamedConstructorResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Integer> keys = session.createQuery( QUERY, Dto.class ).stream()
+					.map( Dto::getKey )
+					.collect( Collectors.toList() );
+			assertThat( keys ).containsExactly( 1, 2, 3 );
+		});
+	}
+
+	@Test
+	public void testArrayAndTupleResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createQuery( QUERY, Object[].class ).list();
+			assertThat( rows ).extracting( row -> row[1] ).containsExactly( "first", "second", "third" );
+
+			final List<Tuple> tuples = session.createQuery( QUERY, Tuple.class ).list();
+			assertThat( tuples ).extracting( tuple -> tuple.get( 1 ) ).containsExactly( "first", "second", "third" );
+		});
+	}
+}
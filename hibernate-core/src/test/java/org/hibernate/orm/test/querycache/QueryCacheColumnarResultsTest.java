@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cached rows are stored in columnar form, so make sure that the values read
+ * back from the cache are the same as the ones read from the database.
+ */
+@DomainModel(annotatedClasses = QueryCacheColumnarResultsTest.Measurement.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class QueryCacheColumnarResultsTest {
+
+	@Test
+	public void testScalarRows(SessionFactoryScope scope) {
+		final List<Object[]> uncached = executeTwice(
+				scope,
+				"select id, sensor, reading, level from Measurement order by id",
+				Object[].class
+		);
+		assertThat( uncached ).hasSize( 10 );
+		assertThat( uncached.get( 0 ) ).containsExactly( 1L, "sensor-1", null, null );
+		assertThat( uncached.get( 1 ) ).containsExactly( 2L, "sensor-0", 2.5, 2 );
+	}
+
+	@Test
+	public void testSingleValueRows(SessionFactoryScope scope) {
+		final List<String> uncached = executeTwice(
+				scope,
+				"select sensor from Measurement order by id",
+				String.class
+		);
+		assertThat( uncached ).hasSize( 10 ).containsOnly( "sensor-0", "sensor-1" );
+	}
+
+	@Test
+	public void testEntityRows(SessionFactoryScope scope) {
+		final List<Measurement> uncached = executeTwice(
+				scope,
+				"from Measurement order by id",
+				Measurement.class
+		);
+		assertThat( uncached ).extracting( measurement -> measurement.id )
+				.containsExactly( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+	}
+
+	private static <T> List<T> executeTwice(SessionFactoryScope scope, String hql, Class<T> resultType) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<T> uncached = scope.fromTransaction( session ->
+				session.createQuery( hql, resultType ).setCacheable( true ).getResultList()
+		);
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		final List<T> cached = scope.fromTransaction( session ->
+				session.createQuery( hql, resultType ).setCacheable( true ).getResultList()
+		);
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cached ).hasSameSizeAs( uncached );
+		for ( int i = 0; i < cached.size(); i++ ) {
+			if ( cached.get( i ) instanceof Object[] row ) {
+				assertThat( row ).containsExactly( (Object[]) uncached.get( i ) );
+			}
+			else if ( cached.get( i ) instanceof Measurement measurement ) {
+				final Measurement expected = (Measurement) uncached.get( i );
+				assertThat( measurement.id ).isEqualTo( expected.id );
+				assertThat( measurement.sensor ).isEqualTo( expected.sensor );
+				assertThat( measurement.reading ).isEqualTo( expected.reading );
+				assertThat( measurement.level ).isEqualTo( expected.level );
+			}
+			else {
+				assertThat( cached.get( i ) ).isEqualTo( uncached.get( i ) );
+			}
+		}
+		return uncached;
+	}
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				final Measurement measurement = new Measurement();
+				measurement.id = id;
+				measurement.sensor = "sensor-" + id % 2;
+				measurement.reading = id % 3 == 1 ? null : id * 1.25;
+				measurement.level = id % 3 == 1 ? null : (int) id;
+				session.persist( measurement );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Long id;
+		private String sensor;
+		private Double reading;
+		private Integer level;
+	}
+}
@@ -10,6 +10,7 @@
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Vlad Mihalcea
@@ -40,4 +41,20 @@ public void testStats() {
 		assertEquals( 11, stats.getExecutionAvgTime() );
 		assertEquals( 11.5, stats.getExecutionAvgTimeAsDouble(), 0.1 );
 	}
+
+	@Test
+	public void testExecutionTimePercentiles() {
+		assertEquals( 0, stats.getExecutionTimePercentile( 99 ) );
+
+		for ( int time = 1; time <= 100; time++ ) {
+			stats.executed( 1, time );
+		}
+
+		assertEquals( 1, stats.getExecutionTimePercentile( 0 ) );
+		assertTrue( stats.getExecutionTimePercentile( 50 ) >= 50 );
+		assertTrue( stats.getExecutionTimePercentile( 50 ) <= 50 + 50 / 8 );
+		assertTrue( stats.getExecutionTimePercentile( 90 ) >= 90 );
+		assertTrue( stats.getExecutionTimePercentile( 90 ) <= 90 + 90 / 8 );
+		assertEquals( 100, stats.getExecutionTimePercentile( 100 ) );
+	}
 }
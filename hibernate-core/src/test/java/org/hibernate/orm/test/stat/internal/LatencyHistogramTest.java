@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.stat.internal.LatencyHistogram;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertThat( histogram.getValueAtPercentile( 0 ) ).isEqualTo( 0 );
+		assertThat( histogram.getValueAtPercentile( 99.9 ) ).isEqualTo( 0 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int value = 0; value < 16; value++ ) {
+			histogram.record( value );
+		}
+		assertThat( histogram.getValueAtPercentile( 0 ) ).isEqualTo( 0 );
+		assertThat( histogram.getValueAtPercentile( 25 ) ).isEqualTo( 3 );
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isEqualTo( 7 );
+		assertThat( histogram.getValueAtPercentile( 75 ) ).isEqualTo( 11 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 15 );
+	}
+
+	@Test
+	public void testLargeValuesAreOverstatedByAtMostAnEighth() {
+		for ( long value = 16; value < 1_000_000; value = value * 17 / 16 + 1 ) {
+			final LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record( value );
+			assertThat( histogram.getValueAtPercentile( 100 ) )
+					.isGreaterThanOrEqualTo( value )
+					.isLessThanOrEqualTo( value + value / 8 );
+		}
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( 1000 );
+		// 1000 falls into the bucket [960, 1023]
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1023 );
+	}
+
+	@Test
+	public void testOutOfRangeValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( -5 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 0 );
+		histogram.record( Long.MAX_VALUE );
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isEqualTo( 0 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( ( 1L << 32 ) - 1 );
+	}
+
+	@Test
+	public void testPercentileRank() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 0; i < 99; i++ ) {
+			histogram.record( 1 );
+		}
+		histogram.record( 1000 );
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isEqualTo( 1 );
+		assertThat( histogram.getValueAtPercentile( 99.5 ) ).isEqualTo( 1023 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1023 );
+
+		histogram.reset();
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 0 );
+		histogram.record( 2 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testInvalidPercentile() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertThatThrownBy( () -> histogram.getValueAtPercentile( -1 ) )
+				.isInstanceOf( IllegalArgumentException.class );
+		assertThatThrownBy( () -> histogram.getValueAtPercentile( 100.1 ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+}
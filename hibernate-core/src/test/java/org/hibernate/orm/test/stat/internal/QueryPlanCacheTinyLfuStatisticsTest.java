@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryPlanCacheTinyLfuStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION, value = "tinylfu"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10")
+})
+@SessionFactory
+public class QueryPlanCacheTinyLfuStatisticsTest {
+
+	@Test
+	public void testHitsMissesAndEvictions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final String query = "select e from Employee e";
+			session.createQuery( query, Employee.class );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			session.createQuery( query, Employee.class );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i, Employee.class );
+			}
+			// evictions of HQL interpretations are not evictions of query plans
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isLessThanOrEqualTo( 10 );
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 0 );
+
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.name = 'name " + i + "'", Employee.class )
+						.getResultList();
+			}
+		} );
+
+		assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans() )
+				.isLessThanOrEqualTo( 10 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link org.hibernate.StatelessSession#insertMultiple} with
+ * {@value BatchSettings#STATELESS_BULK_INSERTS} enabled.
+ */
+@DomainModel(annotatedClasses = {
+		StatelessBulkInsertTest.Measurement.class,
+		StatelessBulkInsertTest.Sensor.class,
+		StatelessBulkInsertTest.Probe.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATELESS_BULK_INSERTS, value = "true"),
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class StatelessBulkInsertTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		final List<Object> entities = new ArrayList<>();
+		entities.add( new Sensor( 1L, "north" ) );
+		entities.add( new Sensor( 2L, "south" ) );
+		for ( int i = 0; i < 25; i++ ) {
+			entities.add( new Measurement(
+					i % 2 == 0 ? 1L : 2L,
+					new BigDecimal( "-1234.56" ).add( BigDecimal.valueOf( i ) ),
+					i % 5 == 0 ? null : "reading " + i,
+					LocalDate.of( 2024, 1, 1 ).plusDays( i ),
+					LocalDateTime.of( 2024, 1, 1, 12, 30, 15 ).plusMinutes( i )
+			) );
+		}
+		entities.add( new Sensor( 3L, "east" ) );
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		assertThat( scope.getSessionFactory().getStatistics().getEntityInsertCount() ).isEqualTo( 28 );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Sensor order by id", Sensor.class ).getResultList() )
+					.extracting( Sensor::getName )
+					.containsExactly( "north", "south", "east" );
+
+			final List<Measurement> measurements =
+					session.createSelectionQuery( "from Measurement order by takenAt", Measurement.class )
+							.getResultList();
+			assertThat( measurements ).hasSize( 25 );
+			for ( int i = 0; i < 25; i++ ) {
+				final Measurement measurement = measurements.get( i );
+				assertThat( measurement.getId() ).isNotNull();
+				assertThat( measurement.getVersion() ).isEqualTo( 0 );
+				assertThat( measurement.getSensorId() ).isEqualTo( i % 2 == 0 ? 1L : 2L );
+				assertThat( measurement.getAmount() )
+						.isEqualByComparingTo( new BigDecimal( "-1234.56" ).add( BigDecimal.valueOf( i ) ) );
+				assertThat( measurement.getNote() ).isEqualTo( i % 5 == 0 ? null : "reading " + i );
+				assertThat( measurement.getMeasuredOn() ).isEqualTo( LocalDate.of( 2024, 1, 1 ).plusDays( i ) );
+				assertThat( measurement.getTakenAt() )
+						.isEqualTo( LocalDateTime.of( 2024, 1, 1, 12, 30, 15 ).plusMinutes( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchedParentIsInsertedFirst(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			// queued in a JDBC batch
+			final Sensor sensor = new Sensor( 10L, "west" );
+			session.insert( sensor );
+			session.insertMultiple( List.of( new Probe( 1L, sensor ), new Probe( 2L, sensor ) ) );
+		} );
+		scope.inStatelessTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(*) from Probe where sensor.id = 10", Long.class )
+									.getSingleResult() )
+						.isEqualTo( 2L )
+		);
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		private Long id;
+		private String name;
+
+		public Sensor() {
+		}
+
+		public Sensor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Probe")
+	public static class Probe {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Sensor sensor;
+
+		public Probe() {
+		}
+
+		public Probe(Long id, Sensor sensor) {
+			this.id = id;
+			this.sensor = sensor;
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		@GeneratedValue
+		private Long id;
+		@Version
+		private Integer version;
+		private Long sensorId;
+		private BigDecimal amount;
+		private String note;
+		private LocalDate measuredOn;
+		private LocalDateTime takenAt;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long sensorId, BigDecimal amount, String note, LocalDate measuredOn, LocalDateTime takenAt) {
+			this.sensorId = sensorId;
+			this.amount = amount;
+			this.note = note;
+			this.measuredOn = measuredOn;
+			this.takenAt = takenAt;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public Integer getVersion() {
+			return version;
+		}
+
+		public Long getSensorId() {
+			return sensorId;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public String getNote() {
+			return note;
+		}
+
+		public LocalDate getMeasuredOn() {
+			return measuredOn;
+		}
+
+		public LocalDateTime getTakenAt() {
+			return takenAt;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stream.detach;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.Query;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value HibernateHints#HINT_DETACH_STREAMED_RESULTS}
+ */
+@DomainModel(annotatedClasses = DetachingStreamTest.Item.class)
+@SessionFactory
+public class DetachingStreamTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new Item( i, "Item #" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntitiesAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final AtomicInteger count = new AtomicInteger();
+			try ( Stream<Item> stream = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.getResultStream() ) {
+				stream.forEach( item -> {
+					count.incrementAndGet();
+					// only the current row is managed
+					assertThat( session.contains( item ) ).isTrue();
+					assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 1 );
+				} );
+			}
+			assertThat( count.get() ).isEqualTo( 100 );
+			// the last row is detached once the stream is exhausted
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testTupleElementsAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Object[]> stream = session.createSelectionQuery( "select i, i.name from Item i", Object[].class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.getResultStream() ) {
+				stream.forEach( row -> assertThat( session.getPersistenceContext().getNumberOfManagedEntities() )
+						.isEqualTo( 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testHintIsReportedAndFetchSizeIsRestored(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Query<Item> query = session.createQuery( "from Item", Item.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true );
+			assertThat( query.getHints() ).containsEntry( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true );
+			try ( Stream<Item> stream = query.getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( 100 );
+			}
+			// the fetch size used for streaming is not retained by the query
+			assertThat( query.getFetchSize() ).isNull();
+			assertThat( query.getHints() ).doesNotContainKey( HibernateHints.HINT_FETCH_SIZE );
+		} );
+	}
+
+	@Test
+	public void testNamedQueryHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Query<Item> query = session.createNamedQuery( "Item.streamAll", Item.class );
+			assertThat( query.getHints() ).containsEntry( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true );
+			try ( Stream<Item> stream = query.getResultStream() ) {
+				stream.forEach( item -> assertThat( session.getPersistenceContext().getNumberOfManagedEntities() )
+						.isEqualTo( 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesStayManagedByDefault(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Item> stream = session.createSelectionQuery( "from Item", Item.class ).getResultStream() ) {
+				stream.forEach( item -> {} );
+			}
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 100 );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@NamedQuery(
+			name = "Item.streamAll",
+			query = "from Item order by id",
+			hints = @QueryHint(name = HibernateHints.HINT_DETACH_STREAMED_RESULTS, value = "true")
+	)
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -407,6 +407,12 @@ public boolean apply(Dialect dialect) {
 		}
 	}
 
+	public static class SupportsMultiRowInsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.getMultiRowInsertLimit() != 0;
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
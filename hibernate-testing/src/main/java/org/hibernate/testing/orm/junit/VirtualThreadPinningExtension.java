@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.testing.orm.junit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit 5 extension which fails any test during which a virtual thread
+ * blocked while pinned to its carrier thread, for example while holding
+ * a monitor, as reported by the {@value #PINNED_EVENT} JFR event.
+ * <p>
+ * When the build is run with {@code -Pfail-on-pinning}, the extension is
+ * registered for automatic detection on the test runtime classpath, and so
+ * applies to every test. It is not registered by the published artifact.
+ * On JDKs without virtual threads, no event is ever reported.
+ * <p>
+ * A JFR recording observes every thread of the JVM, so tests using the
+ * extension are run one at a time, even when parallel execution is enabled,
+ * so that pinning is attributed to the test during which it happened. A
+ * thread left running by a previous test may still be reported.
+ *
+ * @since 7.0
+ */
+public class VirtualThreadPinningExtension implements BeforeEachCallback, AfterEachCallback {
+	public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final String RECORDING_STORE_KEY = "PINNING_RECORDING";
+
+	// held from the start of a recording to its end
+	private static final Semaphore RECORDING_PERMIT = new Semaphore( 1 );
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		RECORDING_PERMIT.acquireUninterruptibly();
+		try {
+			final Recording recording = new Recording();
+			recording.enable( PINNED_EVENT ).withStackTrace().withThreshold( Duration.ZERO );
+			recording.start();
+			store( context ).put( RECORDING_STORE_KEY, recording );
+		}
+		catch (RuntimeException e) {
+			RECORDING_PERMIT.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) throws IOException {
+		final Recording recording = store( context ).remove( RECORDING_STORE_KEY, Recording.class );
+		if ( recording == null ) {
+			return;
+		}
+		final List<RecordedEvent> events;
+		try {
+			recording.stop();
+			events = readEvents( recording );
+		}
+		finally {
+			recording.close();
+			RECORDING_PERMIT.release();
+		}
+		if ( !events.isEmpty() ) {
+			throw new AssertionError(
+					"A virtual thread was pinned to its carrier " + events.size() + " time(s), first at:"
+							+ stackTrace( events.get( 0 ) )
+			);
+		}
+	}
+
+	private static List<RecordedEvent> readEvents(Recording recording) throws IOException {
+		final Path file = Files.createTempFile( "hibernate-pinning", ".jfr" );
+		try {
+			recording.dump( file );
+			return RecordingFile.readAllEvents( file );
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private static String stackTrace(RecordedEvent event) {
+		final StringBuilder stackTrace = new StringBuilder();
+		if ( event.getStackTrace() != null ) {
+			for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+				stackTrace.append( "\n\tat " )
+						.append( frame.getMethod().getType().getName() )
+						.append( '.' )
+						.append( frame.getMethod().getName() )
+						.append( ':' )
+						.append( frame.getLineNumber() );
+			}
+		}
+		return stackTrace.toString();
+	}
+
+	private static ExtensionContext.Store store(ExtensionContext context) {
+		return context.getStore( ExtensionContext.Namespace.create( VirtualThreadPinningExtension.class, context.getUniqueId() ) );
+	}
+}